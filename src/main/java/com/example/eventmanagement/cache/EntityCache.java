@@ -0,0 +1,154 @@
+package com.example.eventmanagement.cache;
+
+import com.example.eventmanagement.dto.EventResponseDTO;
+import com.example.eventmanagement.dto.RoleDTO;
+import com.example.eventmanagement.security.AuthenticatedUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Local, size-bounded, TTL-based caches for rows read on nearly every request
+ * - principals: username -> authenticated user with role and permission authorities
+ * - roles: role ID -> role with its permissions
+ * - events: event ID -> basic view of a PUBLIC event
+ * Hit/miss/eviction metrics are published per region (cache.gets, cache.evictions, ... tagged cache=entity.*)
+ * Services evict on every write; inside a transaction the entry is evicted again once the transaction ends,
+ * so a read racing the write cannot leave the old row cached
+ */
+@Component
+public class EntityCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${entity-cache.principals.max-size:10000}")
+    private long principalsMaxSize;
+
+    @Value("${entity-cache.principals.ttl-seconds:300}")
+    private long principalsTtlSeconds;
+
+    @Value("${entity-cache.roles.max-size:100}")
+    private long rolesMaxSize;
+
+    @Value("${entity-cache.roles.ttl-seconds:1800}")
+    private long rolesTtlSeconds;
+
+    @Value("${entity-cache.events.max-size:10000}")
+    private long eventsMaxSize;
+
+    @Value("${entity-cache.events.ttl-seconds:600}")
+    private long eventsTtlSeconds;
+
+    private Cache<String, AuthenticatedUser> principals;
+    private Cache<Long, RoleDTO> roles;
+    private Cache<Long, EventResponseDTO> events;
+
+    @Autowired
+    public EntityCache(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        this.principals = region("entity.principals", principalsMaxSize, principalsTtlSeconds);
+        this.roles = region("entity.roles", rolesMaxSize, rolesTtlSeconds);
+        this.events = region("entity.events", eventsMaxSize, eventsTtlSeconds);
+    }
+
+    private <K, V> Cache<K, V> region(String name, long maxSize, long ttlSeconds) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        return cache;
+    }
+
+    // ========== PRINCIPALS ==========
+
+    /**
+     * Cached principal for the username, loaded on a miss (loader exceptions propagate and nothing is cached)
+     * Returns a fresh copy: Spring Security erases credentials on the principal it is given after login
+     */
+    public AuthenticatedUser getPrincipal(String username, Function<String, AuthenticatedUser> loader) {
+        AuthenticatedUser cached = principals.get(username, loader);
+        return new AuthenticatedUser(cached.getId(), cached.getUsername(), cached.getPassword(), cached.isEnabled(),
+                cached.getRoleName(), cached.getAuthorities());
+    }
+
+    public void evictPrincipal(String username) {
+        if (username != null) {
+            evict(() -> principals.invalidate(username));
+        }
+    }
+
+    // Role and permission changes affect every user holding the role
+    public void evictAllPrincipals() {
+        evict(principals::invalidateAll);
+    }
+
+    // ========== ROLES ==========
+
+    /**
+     * Cached role with permissions, loaded on a miss (loader exceptions propagate and nothing is cached)
+     */
+    public RoleDTO getRole(Long roleId, Function<Long, RoleDTO> loader) {
+        return roles.get(roleId, loader);
+    }
+
+    public void evictRole(Long roleId) {
+        if (roleId != null) {
+            evict(() -> roles.invalidate(roleId));
+        }
+    }
+
+    // Permission changes affect every role holding the permission
+    public void evictAllRoles() {
+        evict(roles::invalidateAll);
+    }
+
+    // ========== EVENTS ==========
+
+    public EventResponseDTO getEvent(Long eventId) {
+        return events.getIfPresent(eventId);
+    }
+
+    public void putEvent(EventResponseDTO event) {
+        events.put(event.getId(), event);
+    }
+
+    public void evictEvent(Long eventId) {
+        if (eventId != null) {
+            evict(() -> events.invalidate(eventId));
+        }
+    }
+
+    // Event views embed organizer details, so user profile changes drop them all
+    public void evictAllEvents() {
+        evict(events::invalidateAll);
+    }
+
+    // Evict now and, inside a transaction, again once it completes
+    private void evict(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.eventmanagement.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Response body made of pre-encoded UTF-8 JSON: a single event object or an array of them
+ * Written to the response as-is by EventJsonHttpMessageConverter, without going through Jackson
+ */
+public final class EventJson {
+
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_END = {']'};
+    private static final byte[] SEPARATOR = {','};
+
+    private final List<byte[]> fragments;
+    private final boolean array;
+
+    private EventJson(List<byte[]> fragments, boolean array) {
+        this.fragments = fragments;
+        this.array = array;
+    }
+
+    static EventJson single(byte[] fragment) {
+        return new EventJson(List.of(fragment), false);
+    }
+
+    static EventJson array(List<byte[]> fragments) {
+        return new EventJson(fragments, true);
+    }
+
+    public long contentLength() {
+        long length = array ? 2 + Math.max(fragments.size() - 1, 0) : 0;
+        for (byte[] fragment : fragments) {
+            length += fragment.length;
+        }
+        return length;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        if (!array) {
+            out.write(fragments.get(0));
+            return;
+        }
+
+        out.write(ARRAY_START);
+        for (int i = 0; i < fragments.size(); i++) {
+            if (i > 0) {
+                out.write(SEPARATOR);
+            }
+            out.write(fragments.get(i));
+        }
+        out.write(ARRAY_END);
+    }
+}
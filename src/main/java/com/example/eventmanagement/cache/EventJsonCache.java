@@ -0,0 +1,97 @@
+package com.example.eventmanagement.cache;
+
+import com.example.eventmanagement.dto.EventResponseDTO;
+import com.example.eventmanagement.enums.EventJsonView;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pre-encoded JSON per (eventId, updatedAt, view), so read endpoints skip Jackson for events already served
+ * Any change to an event moves its updatedAt, which moves the key - stale fragments are never looked up again
+ * and age out of the size bound. Organizer and invitee details are embedded too, so user profile changes clear all
+ * Metrics: cache.* tagged cache=events.json
+ */
+@Component
+public class EventJsonCache {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // Upper bound on the total size of cached fragments
+    @Value("${event-json-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    private Cache<FragmentKey, byte[]> fragments;
+
+    @Autowired
+    public EventJsonCache(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        this.fragments = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((FragmentKey key, byte[] json) -> json.length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, fragments, "events.json");
+    }
+
+    public EventJson single(EventResponseDTO event) {
+        return EventJson.single(fragment(event));
+    }
+
+    public EventJson array(List<EventResponseDTO> events) {
+        List<byte[]> encoded = new ArrayList<>(events.size());
+        for (EventResponseDTO event : events) {
+            encoded.add(fragment(event));
+        }
+        return EventJson.array(encoded);
+    }
+
+    // Invalidate now and, inside a transaction, again once it completes
+    public void invalidateAll() {
+        fragments.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    fragments.invalidateAll();
+                }
+            });
+        }
+    }
+
+    // The organizer view is the one carrying the invited users list
+    private byte[] fragment(EventResponseDTO event) {
+        EventJsonView view = event.getInvitedUsers() != null ? EventJsonView.ORGANIZER : EventJsonView.BASIC;
+        return fragments.get(new FragmentKey(event.getId(), event.getUpdatedAt(), view), key -> encode(event));
+    }
+
+    private byte[] encode(EventResponseDTO event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode event ID: " + event.getId(), e);
+        }
+    }
+
+    private record FragmentKey(Long eventId, LocalDateTime updatedAt, EventJsonView view) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.eventmanagement.cache;
+
+import com.example.eventmanagement.dto.EventResponseDTO;
+import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.event.EventChangedEvent;
+import com.example.eventmanagement.repository.EventRepository;
+import com.example.eventmanagement.util.ApplicationLogger;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Single-flight microcache for the PUBLIC events feed (GET /events/public)
+ * - One load in flight at a time: concurrent callers wait on the same future instead of each running the query
+ * - Stale-while-revalidate: once refresh-after has passed, callers get the cached feed while it reloads in the background
+ * - Committed writes touching a PUBLIC event (or one currently listed) trigger a refresh of the feed
+ * Metrics: cache.* tagged cache=events.public.feed, plus events.public.feed.coalesced
+ */
+@Component
+public class PublicEventFeedCache {
+
+    private static final String FEED_KEY = "public";
+
+    private final EventRepository eventRepository;
+    private final MeterRegistry meterRegistry;
+    private final Logger logger;
+
+    // Age after which a read triggers a background reload (the cached feed is still served meanwhile)
+    @Value("${public-feed-cache.refresh-after-seconds:5}")
+    private long refreshAfterSeconds;
+
+    // Age after which an unread feed is dropped and the next read waits for a fresh load
+    @Value("${public-feed-cache.expire-after-seconds:60}")
+    private long expireAfterSeconds;
+
+    private AsyncLoadingCache<String, List<EventResponseDTO>> feed;
+
+    private Counter coalescedRequests;
+
+    @Autowired
+    public PublicEventFeedCache(EventRepository eventRepository,
+                                MeterRegistry meterRegistry,
+                                ApplicationLogger applicationLogger) {
+        this.eventRepository = eventRepository;
+        this.meterRegistry = meterRegistry;
+        this.logger = applicationLogger.getLogger(PublicEventFeedCache.class);
+    }
+
+    @PostConstruct
+    void init() {
+        this.feed = Caffeine.newBuilder()
+                .maximumSize(1)
+                .refreshAfterWrite(Duration.ofSeconds(refreshAfterSeconds))
+                .expireAfterWrite(Duration.ofSeconds(expireAfterSeconds))
+                .recordStats()
+                .buildAsync(key -> load());
+        CaffeineCacheMetrics.monitor(meterRegistry, feed.synchronous(), "events.public.feed");
+        this.coalescedRequests = Counter.builder("events.public.feed.coalesced")
+                .description("Requests for the public feed that joined a load already in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * PUBLIC events in feed order, shared by all callers - do not modify the returned list
+     */
+    public List<EventResponseDTO> get() {
+        AtomicBoolean started = new AtomicBoolean();
+        CompletableFuture<List<EventResponseDTO>> future = feed.get(FEED_KEY, (key, executor) -> {
+            started.set(true);
+            return CompletableFuture.supplyAsync(this::load, executor);
+        });
+        if (!started.get() && !future.isDone()) {
+            coalescedRequests.increment();
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Refresh after commit only when the change can show up in the feed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        CompletableFuture<List<EventResponseDTO>> current = feed.asMap().get(FEED_KEY);
+        if (current == null) {
+            return;
+        }
+
+        if (!current.isDone()) {
+            // A load that started before the commit may have missed it - let the next read start over
+            feed.synchronous().invalidate(FEED_KEY);
+        } else if (change.getEventType() == EventType.PUBLIC || isListed(current, change.getEventId())) {
+            logger.debug("Refreshing public feed after {} of event ID: {}", change.getChangeType(), change.getEventId());
+            feed.synchronous().refresh(FEED_KEY);
+        }
+    }
+
+    // Covers events that just stopped being PUBLIC
+    private static boolean isListed(CompletableFuture<List<EventResponseDTO>> current, Long eventId) {
+        if (current.isCompletedExceptionally()) {
+            return false;
+        }
+        List<EventResponseDTO> events = current.getNow(List.of());
+        return events.stream().anyMatch(event -> event.getId().equals(eventId));
+    }
+
+    private List<EventResponseDTO> load() {
+        long started = System.nanoTime();
+        List<EventResponseDTO> events = List.copyOf(eventRepository.findPublicEventViews());
+        logger.debug("Loaded public feed: {} events, {} ms", events.size(), (System.nanoTime() - started) / 1_000_000);
+        return events;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.eventmanagement.config;
+
+import com.example.eventmanagement.cache.EventJson;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Writes pre-encoded EventJson bodies straight to the response stream
+ * Picked up by Spring Boot ahead of the Jackson converter because it is a bean
+ */
+@Component
+public class EventJsonHttpMessageConverter extends AbstractHttpMessageConverter<EventJson> {
+
+    public EventJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return EventJson.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected EventJson readInternal(Class<? extends EventJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("EventJson is a response-only type", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(EventJson body, MediaType contentType) {
+        return body.contentLength();
+    }
+
+    @Override
+    protected void writeInternal(EventJson body, HttpOutputMessage outputMessage) throws IOException {
+        body.writeTo(outputMessage.getBody());
+    }
+}
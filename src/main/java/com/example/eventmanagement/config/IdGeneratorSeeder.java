@@ -0,0 +1,71 @@
+package com.example.eventmanagement.config;
+
+import com.example.eventmanagement.util.ApplicationLogger;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves the pooled ID generators past IDs that already exist
+ * Tables created before the switch from IDENTITY hold AUTO_INCREMENT IDs the generator does not know about
+ * Runs once at startup, after Hibernate has updated the schema and before the web server accepts requests
+ */
+@Component
+public class IdGeneratorSeeder {
+
+    // Must match allocationSize on the @TableGenerator mappings
+    private static final int ALLOCATION_SIZE = 50;
+
+    // Generator segment -> tables whose IDs it allocates
+    private static final Map<String, List<String>> SEGMENTS = Map.of(
+            "entity", List.of("users", "events"),
+            "user_activity_history", List.of("user_activity_history"),
+            "user_login_logout_history", List.of("user_login_logout_history"),
+            "user_password_history", List.of("user_password_history")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Logger logger;
+
+    // EntityManagerFactory dependency guarantees the schema (including id_generator) exists first
+    @Autowired
+    public IdGeneratorSeeder(JdbcTemplate jdbcTemplate,
+                             EntityManagerFactory entityManagerFactory,
+                             ApplicationLogger applicationLogger) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.logger = applicationLogger.getLogger(IdGeneratorSeeder.class);
+    }
+
+    @PostConstruct
+    void seed() {
+        SEGMENTS.forEach((segment, tables) -> {
+            long maxId = 0;
+            for (String table : tables) {
+                Long tableMax = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+                maxId = Math.max(maxId, tableMax != null ? tableMax : 0);
+            }
+            if (maxId == 0) {
+                return;
+            }
+
+            // Leave a full allocation block of headroom above the highest existing ID
+            long floor = maxId + ALLOCATION_SIZE + 1;
+            List<Long> current = jdbcTemplate.queryForList(
+                    "SELECT gen_value FROM id_generator WHERE gen_name = ?", Long.class, segment);
+
+            if (current.isEmpty()) {
+                jdbcTemplate.update("INSERT INTO id_generator (gen_name, gen_value) VALUES (?, ?)", segment, floor);
+                logger.info("Seeded ID generator '{}' at {}", segment, floor);
+            } else if (current.get(0) < floor) {
+                jdbcTemplate.update("UPDATE id_generator SET gen_value = ? WHERE gen_name = ?", floor, segment);
+                logger.info("Raised ID generator '{}' from {} to {}", segment, current.get(0), floor);
+            }
+        });
+    }
+}
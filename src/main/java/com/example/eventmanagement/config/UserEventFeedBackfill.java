@@ -0,0 +1,44 @@
+package com.example.eventmanagement.config;
+
+import com.example.eventmanagement.repository.UserEventFeedRepository;
+import com.example.eventmanagement.util.ApplicationLogger;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the materialized upcoming-events feed from existing PRIVATE events
+ * Only runs while the table is empty (first start after the table was added); from then on
+ * EventService keeps it in step with every write
+ */
+@Component
+public class UserEventFeedBackfill {
+
+    private final UserEventFeedRepository userEventFeedRepository;
+    private final Logger logger;
+
+    @Autowired
+    public UserEventFeedBackfill(UserEventFeedRepository userEventFeedRepository,
+                                 ApplicationLogger applicationLogger) {
+        this.userEventFeedRepository = userEventFeedRepository;
+        this.logger = applicationLogger.getLogger(UserEventFeedBackfill.class);
+    }
+
+    @PostConstruct
+    void backfill() {
+        if (userEventFeedRepository.count() > 0) {
+            return;
+        }
+
+        try {
+            int rows = userEventFeedRepository.insertForAllPrivateEvents();
+            if (rows > 0) {
+                logger.info("Backfilled upcoming-events feed with {} rows", rows);
+            }
+        } catch (Exception e) {
+            // Another instance starting at the same time may have filled it first
+            logger.warn("Upcoming-events feed backfill skipped: {}", e.getMessage());
+        }
+    }
+}
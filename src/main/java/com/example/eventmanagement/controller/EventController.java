@@ -1,24 +1,52 @@
 package com.example.eventmanagement.controller;
 
+import com.example.eventmanagement.cache.EventJson;
+import com.example.eventmanagement.cache.EventJsonCache;
+import com.example.eventmanagement.dto.EventChangesResponseDTO;
+import com.example.eventmanagement.dto.EventConflictDTO;
+import com.example.eventmanagement.dto.EventImportResultDTO;
 import com.example.eventmanagement.dto.EventInvitationDTO;
+import com.example.eventmanagement.dto.EventInvitationPatchDTO;
+import com.example.eventmanagement.dto.EventNotificationDTO;
+import com.example.eventmanagement.dto.EventPageResponseDTO;
 import com.example.eventmanagement.dto.EventRequestDTO;
 import com.example.eventmanagement.dto.EventResponseDTO;
+import com.example.eventmanagement.dto.FreeBusyRequestDTO;
+import com.example.eventmanagement.dto.FreeBusyResponseDTO;
+import com.example.eventmanagement.enums.EventFeedView;
+import com.example.eventmanagement.enums.EventImportFormat;
 import com.example.eventmanagement.service.EventService;
+import com.example.eventmanagement.stream.EventStreamRegistry;
+import com.example.eventmanagement.util.OptimisticLockRetrier;
+import com.example.eventmanagement.util.ResourceVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Set;
 
 @Tag(name = "Event Management", description = "APIs for managing PUBLIC and PRIVATE events. PRIVATE events require invitations. All operations are tracked in audit logs.")
 @RestController
@@ -26,10 +54,19 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final EventJsonCache eventJsonCache;
+    private final EventStreamRegistry eventStreamRegistry;
+    private final OptimisticLockRetrier optimisticLockRetrier;
 
     @Autowired
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService,
+                           EventJsonCache eventJsonCache,
+                           EventStreamRegistry eventStreamRegistry,
+                           OptimisticLockRetrier optimisticLockRetrier) {
         this.eventService = eventService;
+        this.eventJsonCache = eventJsonCache;
+        this.eventStreamRegistry = eventStreamRegistry;
+        this.optimisticLockRetrier = optimisticLockRetrier;
     }
 
     // ========== EXISTING ENDPOINTS (Your original code - updated) ==========
@@ -52,55 +89,158 @@ public class EventController {
         return new ResponseEntity<>(responseDTO, HttpStatus.CREATED);
     }
 
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
+    @Operation(
+            summary = "Bulk import events from NDJSON or CSV",
+            description = "Streams the request body and creates one event per row, with the current user as organizer. " +
+                    "Send Content-Type application/x-ndjson (one event JSON object per line, same fields as POST /events) " +
+                    "or text/csv (header row: title,description,eventDate,startTime,endTime,location,eventType,invitedUserIds; " +
+                    "invitedUserIds separated by ';'). Rows are validated with the same rules as POST /events. " +
+                    "Invalid rows are reported with their line number and do not stop the import."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished - see importedCount and errors"),
+            @ApiResponse(responseCode = "400", description = "Invalid file (e.g. CSV header missing a column)"),
+            @ApiResponse(responseCode = "403", description = "Access denied - Authentication required"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<EventImportResultDTO> importEvents(HttpServletRequest request) throws IOException {
+        EventImportFormat format = EventImportFormat.fromContentType(request.getContentType());
+        EventImportResultDTO result = eventService.importEvents(request.getInputStream(), format, request);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
     @Operation(
             summary = "Retrieve all accessible events",
-            description = "Returns PUBLIC events + PRIVATE events you organized + PRIVATE events you're invited to. Paginated results."
+            description = "Returns PUBLIC events + PRIVATE events you organized + PRIVATE events you're invited to. Paginated results. Supports conditional requests: send the returned ETag in If-None-Match to get 304 while the events on that page are unchanged."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved list of events"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved list of events",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EventResponseDTO.class)))),
+            @ApiResponse(responseCode = "304", description = "Not modified - the cached list is still current", content = @Content()),
+            @ApiResponse(responseCode = "400", description = "Invalid page or page size (size must be between 1 and 100)"),
             @ApiResponse(responseCode = "403", description = "Access denied - Authentication required"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<List<EventResponseDTO>> getAllEvents(
+    public ResponseEntity<EventJson> getAllEvents(
             @Parameter(description = "Page number (0-indexed)", example = "0")
             @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Number of items per page", example = "10")
-            @RequestParam(defaultValue = "10") int size) {
+            @Parameter(description = "Number of items per page (1-100, larger sizes are rejected)", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        Pageable pageable = PageRequest.of(page, size);
+        if (listingNotModified(webRequest, EventFeedView.ALL, pageable)) {
+            return null;
+        }
         List<EventResponseDTO> events = eventService.getAllEvents(page, size);
-        return new ResponseEntity<>(events, HttpStatus.OK);
+        return listingResponse(webRequest, EventFeedView.ALL, pageable, events);
+    }
+
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
+    @Operation(
+            summary = "Retrieve events with cursor pagination",
+            description = "Cursor-paginated version of the event listings, ordered by date, start time and ID. The view selects the listing: ALL (same as GET /events), PUBLIC, UPCOMING, PAST, TODAY, MY_ORGANIZED or MY_INVITATIONS. Pass the returned nextCursor to get the next page. Deep pages cost the same as the first page. totalElements is only returned for the first page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page of events"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, view or page size"),
+            @ApiResponse(responseCode = "403", description = "Access denied - Authentication required"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<EventPageResponseDTO> getEventFeed(
+            @Parameter(description = "Which listing to page through", example = "ALL")
+            @RequestParam(defaultValue = "ALL") EventFeedView view,
+            @Parameter(description = "Cursor from the previous page (omit for the first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per page (1-100, larger sizes are rejected)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        EventPageResponseDTO eventPage = eventService.getEventFeed(view, cursor, size);
+        return new ResponseEntity<>(eventPage, HttpStatus.OK);
+    }
+
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
+    @Operation(
+            summary = "Retrieve event changes since a sync token",
+            description = "Delta sync for offline clients. Returns accessible events created or updated since the token, and events removed from your view (deleted, made PRIVATE, or you were uninvited). Omit since for the first sync. Always store nextToken and send it next time; while hasMore is true, call again right away. Drop a removed event only if your copy's updatedAt is older than removedAt. Changes from the last couple of seconds are held back until their transactions have settled."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved changes"),
+            @ApiResponse(responseCode = "400", description = "Invalid sync token or size"),
+            @ApiResponse(responseCode = "403", description = "Access denied - Authentication required"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<EventChangesResponseDTO> getEventChanges(
+            @Parameter(description = "nextToken from the previous call (omit for the first sync)")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum changed and removed events per call (1-100, larger sizes are rejected)", example = "100")
+            @RequestParam(defaultValue = "100") int size) {
+        EventChangesResponseDTO changes = eventService.getEventChanges(since, size);
+        return new ResponseEntity<>(changes, HttpStatus.OK);
+    }
+
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
+    @Operation(
+            summary = "Stream event changes (Server-Sent Events)",
+            description = "Keeps the connection open and pushes a notification whenever an event you can see is created, updated or deleted. Messages are named created/updated/deleted with data {changeType, eventId}; fetch the details with GET /events/{id} or GET /events/changes. A resync message means notifications were dropped because you fell behind - call GET /events/changes. Heartbeat comments are sent on quiet connections. The server closes streams after a while; EventSource reconnects automatically."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened",
+                    content = @Content(mediaType = "text/event-stream", schema = @Schema(implementation = EventNotificationDTO.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied - Authentication required"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents() {
+        return eventStreamRegistry.subscribe();
     }
 
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
     @Operation(
             summary = "Retrieve an event by ID",
-            description = "Returns event details if: PUBLIC event OR you're the organizer OR you're invited. Returns 403 if you don't have access to PRIVATE event."
+            description = "Returns event details if: PUBLIC event OR you're the organizer OR you're invited. Returns 403 if you don't have access to PRIVATE event. Supports conditional requests via If-None-Match (304 when unchanged)."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved the event"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the event",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = EventResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified - the cached event is still current", content = @Content()),
             @ApiResponse(responseCode = "403", description = "Access denied - You cannot view this private event"),
             @ApiResponse(responseCode = "404", description = "Event not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<EventResponseDTO> getEventById(
+    public ResponseEntity<EventJson> getEventById(
             @Parameter(description = "ID of the event to retrieve", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        // The version probe only runs for clients that sent If-None-Match, a full response takes its ETag from the event loaded
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(eventService.getEventVersion(id).getEtag())) {
+            return null;
+        }
         EventResponseDTO responseDTO = eventService.getEventById(id);
-        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            response.eTag(eventService.getEventVersion(responseDTO).getEtag());
+        }
+        return response.body(eventJsonCache.single(responseDTO));
     }
 
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
     @Operation(
             summary = "Update an existing event",
-            description = "Only the event organizer can update the event. Cannot update past events."
+            description = "Only the event organizer can update the event. Cannot update past events. Send If-Match with the event's version to make sure nobody changed it since you read it; without If-Match a change racing another one is retried automatically."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Event updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid input - Validation failed"),
             @ApiResponse(responseCode = "403", description = "Access denied - Only organizer can update"),
             @ApiResponse(responseCode = "404", description = "Event not found"),
+            @ApiResponse(responseCode = "409", description = "Version conflict - If-Match is outdated or concurrent changes kept colliding"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @PutMapping("/{id}")
@@ -108,8 +248,12 @@ public class EventController {
             @Parameter(description = "ID of the event to update", required = true, example = "1")
             @PathVariable Long id,
             @Valid @RequestBody EventRequestDTO requestDTO,
+            @Parameter(description = "Optional: the event's version from the response body, quoted (e.g. \"3\"); the change only applies to that version, otherwise 409")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             HttpServletRequest request) {
-        EventResponseDTO responseDTO = eventService.updateEvent(id, requestDTO, request);
+        Long expectedVersion = ResourceVersion.parseIfMatch(ifMatch);
+        EventResponseDTO responseDTO = optimisticLockRetrier.execute("event.update", expectedVersion == null,
+                () -> eventService.updateEvent(id, requestDTO, expectedVersion, request));
         return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
 
@@ -122,14 +266,19 @@ public class EventController {
             @ApiResponse(responseCode = "200", description = "Event deleted successfully"),
             @ApiResponse(responseCode = "403", description = "Access denied - Only organizer can delete"),
             @ApiResponse(responseCode = "404", description = "Event not found"),
+            @ApiResponse(responseCode = "409", description = "Version conflict - If-Match is outdated or concurrent changes kept colliding"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteEvent(
             @Parameter(description = "ID of the event to delete", required = true, example = "1")
             @PathVariable Long id,
+            @Parameter(description = "Optional: the event's version from the response body, quoted (e.g. \"3\"); the change only applies to that version, otherwise 409")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             HttpServletRequest request) {
-        eventService.deleteEvent(id, request);
+        Long expectedVersion = ResourceVersion.parseIfMatch(ifMatch);
+        optimisticLockRetrier.run("event.delete", expectedVersion == null,
+                () -> eventService.deleteEvent(id, expectedVersion, request));
         return new ResponseEntity<>("Event deleted successfully", HttpStatus.OK);
     }
 
@@ -141,46 +290,57 @@ public class EventController {
             description = "Returns only PUBLIC events that anyone can view and attend."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved public events"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved public events",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EventResponseDTO.class)))),
             @ApiResponse(responseCode = "403", description = "Access denied"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/public")
-    public ResponseEntity<List<EventResponseDTO>> getAllPublicEvents() {
+    public ResponseEntity<EventJson> getAllPublicEvents() {
         List<EventResponseDTO> events = eventService.getAllPublicEvents();
-        return new ResponseEntity<>(events, HttpStatus.OK);
+        return new ResponseEntity<>(eventJsonCache.array(events), HttpStatus.OK);
     }
 
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
     @Operation(
             summary = "Get my organized events",
-            description = "Returns all events created by the current user (both PUBLIC and PRIVATE)."
+            description = "Returns all events created by the current user (both PUBLIC and PRIVATE). Supports conditional requests via If-None-Match (304 when unchanged)."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved organized events"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved organized events",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EventResponseDTO.class)))),
+            @ApiResponse(responseCode = "304", description = "Not modified - the cached list is still current", content = @Content()),
             @ApiResponse(responseCode = "403", description = "Access denied"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/my-organized")
-    public ResponseEntity<List<EventResponseDTO>> getMyOrganizedEvents() {
+    public ResponseEntity<EventJson> getMyOrganizedEvents(WebRequest webRequest) {
+        if (listingNotModified(webRequest, EventFeedView.MY_ORGANIZED, Pageable.unpaged())) {
+            return null;
+        }
         List<EventResponseDTO> events = eventService.getMyOrganizedEvents();
-        return new ResponseEntity<>(events, HttpStatus.OK);
+        return listingResponse(webRequest, EventFeedView.MY_ORGANIZED, Pageable.unpaged(), events);
     }
 
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
     @Operation(
             summary = "Get events I'm invited to",
-            description = "Returns all PRIVATE events where the current user is invited."
+            description = "Returns all PRIVATE events where the current user is invited. Supports conditional requests via If-None-Match (304 when unchanged)."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved invited events"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved invited events",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EventResponseDTO.class)))),
+            @ApiResponse(responseCode = "304", description = "Not modified - the cached list is still current", content = @Content()),
             @ApiResponse(responseCode = "403", description = "Access denied"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/my-invitations")
-    public ResponseEntity<List<EventResponseDTO>> getMyInvitedEvents() {
+    public ResponseEntity<EventJson> getMyInvitedEvents(WebRequest webRequest) {
+        if (listingNotModified(webRequest, EventFeedView.MY_INVITATIONS, Pageable.unpaged())) {
+            return null;
+        }
         List<EventResponseDTO> events = eventService.getMyInvitedEvents();
-        return new ResponseEntity<>(events, HttpStatus.OK);
+        return listingResponse(webRequest, EventFeedView.MY_INVITATIONS, Pageable.unpaged(), events);
     }
 
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
@@ -189,14 +349,15 @@ public class EventController {
             description = "Returns upcoming PUBLIC events + your PRIVATE events (organized or invited)."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved upcoming events"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved upcoming events",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EventResponseDTO.class)))),
             @ApiResponse(responseCode = "403", description = "Access denied"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/upcoming")
-    public ResponseEntity<List<EventResponseDTO>> getUpcomingEvents() {
+    public ResponseEntity<EventJson> getUpcomingEvents() {
         List<EventResponseDTO> events = eventService.getUpcomingEvents();
-        return new ResponseEntity<>(events, HttpStatus.OK);
+        return new ResponseEntity<>(eventJsonCache.array(events), HttpStatus.OK);
     }
 
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
@@ -205,14 +366,15 @@ public class EventController {
             description = "Returns all past events."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved past events"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved past events",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EventResponseDTO.class)))),
             @ApiResponse(responseCode = "403", description = "Access denied"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/past")
-    public ResponseEntity<List<EventResponseDTO>> getPastEvents() {
+    public ResponseEntity<EventJson> getPastEvents() {
         List<EventResponseDTO> events = eventService.getPastEvents();
-        return new ResponseEntity<>(events, HttpStatus.OK);
+        return new ResponseEntity<>(eventJsonCache.array(events), HttpStatus.OK);
     }
 
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
@@ -221,32 +383,105 @@ public class EventController {
             description = "Returns all events happening today."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved today's events"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved today's events",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EventResponseDTO.class)))),
             @ApiResponse(responseCode = "403", description = "Access denied"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/today")
-    public ResponseEntity<List<EventResponseDTO>> getTodaysEvents() {
+    public ResponseEntity<EventJson> getTodaysEvents() {
         List<EventResponseDTO> events = eventService.getTodaysEvents();
-        return new ResponseEntity<>(events, HttpStatus.OK);
+        return new ResponseEntity<>(eventJsonCache.array(events), HttpStatus.OK);
+    }
+
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
+    @Operation(
+            summary = "Search events",
+            description = "Full-text search over title, location and description. Case- and accent-insensitive; words also match as prefixes (\"work\" finds \"Workshop\"). Every word must match. Results are ranked by relevance (title > location > description) and only include events you can access."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved matching events",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EventResponseDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Empty query or invalid page"),
+            @ApiResponse(responseCode = "403", description = "Access denied - Authentication required"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<EventJson> searchEvents(
+            @Parameter(description = "Search text", example = "spring workshop dhaka")
+            @RequestParam String q,
+            @Parameter(description = "Page number (0-indexed)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of items per page (1-100, larger sizes are rejected)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        List<EventResponseDTO> events = eventService.searchEvents(q, page, size);
+        return new ResponseEntity<>(eventJsonCache.array(events), HttpStatus.OK);
     }
 
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
     @Operation(
             summary = "Get events by location",
-            description = "Search events by location (case-insensitive, partial match)."
+            description = "Search events by location (case-insensitive, matches whole words or word prefixes). Only includes events you can access."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved events"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved events",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EventResponseDTO.class)))),
             @ApiResponse(responseCode = "403", description = "Access denied"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/search/location")
-    public ResponseEntity<List<EventResponseDTO>> getEventsByLocation(
+    public ResponseEntity<EventJson> getEventsByLocation(
             @Parameter(description = "Location to search", example = "Dhaka")
             @RequestParam String location) {
         List<EventResponseDTO> events = eventService.getEventsByLocation(location);
-        return new ResponseEntity<>(events, HttpStatus.OK);
+        return new ResponseEntity<>(eventJsonCache.array(events), HttpStatus.OK);
+    }
+
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
+    @Operation(
+            summary = "Check a time slot for conflicts",
+            description = "Lists upcoming events overlapping the slot: VENUE conflicts at the given location and PARTICIPANT conflicts for each user who organizes or is invited to an overlapping event (defaults to you). Use excludeEventId when rescheduling an existing event. PRIVATE events you are not part of are shown without title and location."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved conflicts (empty when the slot is free)"),
+            @ApiResponse(responseCode = "400", description = "Invalid date or time range"),
+            @ApiResponse(responseCode = "403", description = "Access denied - Authentication required"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/conflicts")
+    public ResponseEntity<List<EventConflictDTO>> getConflicts(
+            @Parameter(description = "Date of the slot", example = "2025-12-20")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "Slot start time", example = "10:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime startTime,
+            @Parameter(description = "Slot end time", example = "12:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime endTime,
+            @Parameter(description = "Venue to check", example = "Dhaka, Bangladesh")
+            @RequestParam(required = false) String location,
+            @Parameter(description = "Users to check (defaults to you)", example = "[2, 3]")
+            @RequestParam(required = false) Set<Long> userIds,
+            @Parameter(description = "Event being rescheduled (its own slot is ignored)", example = "42")
+            @RequestParam(required = false) Long excludeEventId) {
+        List<EventConflictDTO> conflicts = eventService.findConflicts(date, startTime, endTime, location, userIds, excludeEventId);
+        return new ResponseEntity<>(conflicts, HttpStatus.OK);
+    }
+
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
+    @Operation(
+            summary = "Find when a group of users is free",
+            description = "For up to 1000 users and a window of up to 31 days, returns each user's merged busy time (events they organize or are invited to) and the slots inside the daily window when all of them are free. Any signed-in user may query anyone's availability (as with /events/conflicts) so meetings can be planned; only times are returned, never event details."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully computed availability"),
+            @ApiResponse(responseCode = "400", description = "Invalid users, date window or daily window"),
+            @ApiResponse(responseCode = "403", description = "Access denied - Authentication required"),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/free-busy")
+    public ResponseEntity<FreeBusyResponseDTO> getFreeBusy(@Valid @RequestBody FreeBusyRequestDTO requestDTO) {
+        FreeBusyResponseDTO responseDTO = eventService.getFreeBusy(requestDTO);
+        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
 
     // ========== INVITATION MANAGEMENT ENDPOINTS ==========
@@ -261,13 +496,18 @@ public class EventController {
             @ApiResponse(responseCode = "400", description = "Invalid input or trying to invite to PUBLIC event"),
             @ApiResponse(responseCode = "403", description = "Access denied - Only organizer can invite"),
             @ApiResponse(responseCode = "404", description = "Event or user not found"),
+            @ApiResponse(responseCode = "409", description = "Version conflict - If-Match is outdated or concurrent changes kept colliding"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @PostMapping("/invite")
     public ResponseEntity<EventResponseDTO> inviteUsersToEvent(
             @Valid @RequestBody EventInvitationDTO invitationDTO,
+            @Parameter(description = "Optional: the event's version from the response body, quoted (e.g. \"3\"); the change only applies to that version, otherwise 409")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             HttpServletRequest request) {
-        EventResponseDTO responseDTO = eventService.inviteUsersToEvent(invitationDTO, request);
+        Long expectedVersion = ResourceVersion.parseIfMatch(ifMatch);
+        EventResponseDTO responseDTO = optimisticLockRetrier.execute("event.invite", expectedVersion == null,
+                () -> eventService.inviteUsersToEvent(invitationDTO, expectedVersion, request));
         return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
 
@@ -281,13 +521,64 @@ public class EventController {
             @ApiResponse(responseCode = "400", description = "Invalid input or trying to remove from PUBLIC event"),
             @ApiResponse(responseCode = "403", description = "Access denied - Only organizer can remove"),
             @ApiResponse(responseCode = "404", description = "Event or user not found"),
+            @ApiResponse(responseCode = "409", description = "Version conflict - If-Match is outdated or concurrent changes kept colliding"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @DeleteMapping("/invite")
     public ResponseEntity<EventResponseDTO> removeUsersFromEvent(
             @Valid @RequestBody EventInvitationDTO invitationDTO,
+            @Parameter(description = "Optional: the event's version from the response body, quoted (e.g. \"3\"); the change only applies to that version, otherwise 409")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             HttpServletRequest request) {
-        EventResponseDTO responseDTO = eventService.removeUsersFromEvent(invitationDTO, request);
+        Long expectedVersion = ResourceVersion.parseIfMatch(ifMatch);
+        EventResponseDTO responseDTO = optimisticLockRetrier.execute("event.uninvite", expectedVersion == null,
+                () -> eventService.removeUsersFromEvent(invitationDTO, expectedVersion, request));
         return new ResponseEntity<>(responseDTO, HttpStatus.OK);
     }
+
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN', 'ATTENDEE')")
+    @Operation(
+            summary = "Add and remove invited users of a PRIVATE event",
+            description = "Only the event organizer can change invitations. Only works for PRIVATE events. Applies just the listed changes: " +
+                    "addUserIds are invited (already invited users are ignored) and removeUserIds are uninvited (users who are not invited are ignored); " +
+                    "everyone else keeps their invitation. Prefer this over PUT /events/{id} to edit the guest list of a large event."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Invitations updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input, no user IDs, a user both added and removed, or PUBLIC event"),
+            @ApiResponse(responseCode = "403", description = "Access denied - Only organizer can change invitations"),
+            @ApiResponse(responseCode = "404", description = "Event or user not found"),
+            @ApiResponse(responseCode = "409", description = "Version conflict - If-Match is outdated or concurrent changes kept colliding"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PatchMapping("/invite")
+    public ResponseEntity<EventResponseDTO> updateInvitations(
+            @Valid @RequestBody EventInvitationPatchDTO patchDTO,
+            @Parameter(description = "Optional: the event's version from the response body, quoted (e.g. \"3\"); the change only applies to that version, otherwise 409")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            HttpServletRequest request) {
+        Long expectedVersion = ResourceVersion.parseIfMatch(ifMatch);
+        EventResponseDTO responseDTO = optimisticLockRetrier.execute("event.invitations", expectedVersion == null,
+                () -> eventService.updateInvitations(patchDTO, expectedVersion, request));
+        return new ResponseEntity<>(responseDTO, HttpStatus.OK);
+    }
+
+    // ========== CONDITIONAL LISTING HELPERS ==========
+
+    // The listing version probe only runs for clients that sent If-None-Match
+    private boolean listingNotModified(WebRequest webRequest, EventFeedView view, Pageable pageable) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(eventService.getListingVersion(view, pageable).getEtag());
+    }
+
+    // Full listing response; without If-None-Match its ETag comes from the rows just loaded
+    // (a conditional request that missed already got the ETag from the probe)
+    private ResponseEntity<EventJson> listingResponse(WebRequest webRequest, EventFeedView view, Pageable pageable,
+                                                      List<EventResponseDTO> events) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            response.eTag(eventService.getListingVersion(view, pageable, events).getEtag());
+        }
+        return response.body(eventJsonCache.array(events));
+    }
 }
@@ -3,6 +3,8 @@ package com.example.eventmanagement.controller;
 import com.example.eventmanagement.dto.UserRequestDTO;
 import com.example.eventmanagement.dto.UserResponseDTO;
 import com.example.eventmanagement.service.UserService;
+import com.example.eventmanagement.util.OptimisticLockRetrier;
+import com.example.eventmanagement.util.ResourceVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,10 +14,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import com.example.eventmanagement.dto.ChangePasswordDTO;
 import com.example.eventmanagement.dto.ResetPasswordDTO;
 
@@ -27,10 +31,12 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final OptimisticLockRetrier optimisticLockRetrier;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, OptimisticLockRetrier optimisticLockRetrier) {
         this.userService = userService;
+        this.optimisticLockRetrier = optimisticLockRetrier;
     }
 
     @PreAuthorize("hasRole('SUPER_ADMIN')")
@@ -54,10 +60,11 @@ public class UserController {
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN')")
     @Operation(
             summary = "Retrieve all users",
-            description = "Fetches a paginated list of all users with their assigned role"
+            description = "Fetches a paginated list of all users with their assigned role. Supports conditional requests: send the returned ETag in If-None-Match to get 304 while no user or role changed."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list of users", content = @Content()),
+            @ApiResponse(responseCode = "304", description = "Not modified - the cached list is still current", content = @Content()),
             @ApiResponse(responseCode = "403", description = "Access denied - SUPER_ADMIN or ADMIN role required", content = @Content()),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content())
     })
@@ -66,7 +73,12 @@ public class UserController {
             @Parameter(description = "Page number (0-indexed)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Number of items per page", example = "10")
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        ResourceVersion version = userService.getUsersVersion(page, size);
+        if (webRequest.checkNotModified(version.getEtag())) {
+            return null;
+        }
         List<UserResponseDTO> users = userService.getAllUsers(page, size);
         return new ResponseEntity<>(users, HttpStatus.OK);
     }
@@ -74,10 +86,11 @@ public class UserController {
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN')")
     @Operation(
             summary = "Retrieve a user by ID",
-            description = "Fetches a specific user by their unique identifier"
+            description = "Fetches a specific user by their unique identifier. Supports conditional requests via If-None-Match / If-Modified-Since (304 when unchanged)."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the user", content = @Content()),
+            @ApiResponse(responseCode = "304", description = "Not modified - the cached user is still current", content = @Content()),
             @ApiResponse(responseCode = "403", description = "Access denied - SUPER_ADMIN or ADMIN role required", content = @Content()),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content()),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content())
@@ -85,7 +98,12 @@ public class UserController {
     @GetMapping("/{id}")
     public ResponseEntity<UserResponseDTO> getUserById(
             @Parameter(description = "ID of the user to retrieve", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        ResourceVersion version = userService.getUserVersion(id);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
         UserResponseDTO user = userService.getUserById(id);
         return new ResponseEntity<>(user, HttpStatus.OK);
     }
@@ -128,13 +146,14 @@ public class UserController {
     @PreAuthorize("hasRole('SUPER_ADMIN')")
     @Operation(
             summary = "Update an existing user",
-            description = "Updates user information and role. Leave password empty to keep existing password. Role ID is required. This action is logged in activity history."
+            description = "Updates user information and role. Leave password empty to keep existing password. Role ID is required. Send If-Match with the user's version to make sure nobody changed the user since you read it. This action is logged in activity history."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User updated successfully", content = @Content()),
             @ApiResponse(responseCode = "400", description = "Invalid input, username or email already exists, or role not found", content = @Content()),
             @ApiResponse(responseCode = "403", description = "Access denied - SUPER_ADMIN role required", content = @Content()),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content()),
+            @ApiResponse(responseCode = "409", description = "Version conflict - If-Match is outdated or concurrent changes kept colliding", content = @Content()),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content())
     })
     @PutMapping("/{id}")
@@ -142,8 +161,12 @@ public class UserController {
             @Parameter(description = "ID of the user to update", required = true, example = "1")
             @PathVariable Long id,
             @Valid @RequestBody UserRequestDTO requestDTO,
+            @Parameter(description = "Optional: the user's version from the response body, quoted (e.g. \"3\"); the change only applies to that version, otherwise 409")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             HttpServletRequest request) {
-        UserResponseDTO updatedUser = userService.updateUser(id, requestDTO, request);
+        Long expectedVersion = ResourceVersion.parseIfMatch(ifMatch);
+        UserResponseDTO updatedUser = optimisticLockRetrier.execute("user.update", expectedVersion == null,
+                () -> userService.updateUser(id, requestDTO, expectedVersion, request));
         return new ResponseEntity<>(updatedUser, HttpStatus.OK);
     }
 
@@ -156,14 +179,19 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "User deactivated successfully", content = @Content()),
             @ApiResponse(responseCode = "403", description = "Access denied - SUPER_ADMIN role required", content = @Content()),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content()),
+            @ApiResponse(responseCode = "409", description = "Version conflict - If-Match is outdated or concurrent changes kept colliding", content = @Content()),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content())
     })
     @PatchMapping("/{id}/deactivate")
     public ResponseEntity<UserResponseDTO> deactivateUser(
             @Parameter(description = "ID of the user to deactivate", required = true, example = "1")
             @PathVariable Long id,
+            @Parameter(description = "Optional: the user's version from the response body, quoted (e.g. \"3\"); the change only applies to that version, otherwise 409")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             HttpServletRequest request) {
-        UserResponseDTO user = userService.deactivateUser(id, request);
+        Long expectedVersion = ResourceVersion.parseIfMatch(ifMatch);
+        UserResponseDTO user = optimisticLockRetrier.execute("user.deactivate", expectedVersion == null,
+                () -> userService.deactivateUser(id, expectedVersion, request));
         return new ResponseEntity<>(user, HttpStatus.OK);
     }
 
@@ -176,14 +204,19 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "User activated successfully", content = @Content()),
             @ApiResponse(responseCode = "403", description = "Access denied - SUPER_ADMIN role required", content = @Content()),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content()),
+            @ApiResponse(responseCode = "409", description = "Version conflict - If-Match is outdated or concurrent changes kept colliding", content = @Content()),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content())
     })
     @PatchMapping("/{id}/activate")
     public ResponseEntity<UserResponseDTO> activateUser(
             @Parameter(description = "ID of the user to activate", required = true, example = "1")
             @PathVariable Long id,
+            @Parameter(description = "Optional: the user's version from the response body, quoted (e.g. \"3\"); the change only applies to that version, otherwise 409")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             HttpServletRequest request) {
-        UserResponseDTO user = userService.activateUser(id, request);
+        Long expectedVersion = ResourceVersion.parseIfMatch(ifMatch);
+        UserResponseDTO user = optimisticLockRetrier.execute("user.activate", expectedVersion == null,
+                () -> userService.activateUser(id, expectedVersion, request));
         return new ResponseEntity<>(user, HttpStatus.OK);
     }
 
@@ -196,14 +229,19 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "User deleted successfully", content = @Content()),
             @ApiResponse(responseCode = "403", description = "Access denied - SUPER_ADMIN role required", content = @Content()),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content()),
+            @ApiResponse(responseCode = "409", description = "Version conflict - If-Match is outdated or concurrent changes kept colliding", content = @Content()),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content())
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteUser(
             @Parameter(description = "ID of the user to delete", required = true, example = "1")
             @PathVariable Long id,
+            @Parameter(description = "Optional: the user's version from the response body, quoted (e.g. \"3\"); the change only applies to that version, otherwise 409")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             HttpServletRequest request) {
-        userService.deleteUser(id, request);
+        Long expectedVersion = ResourceVersion.parseIfMatch(ifMatch);
+        optimisticLockRetrier.run("user.delete", expectedVersion == null,
+                () -> userService.deleteUser(id, expectedVersion, request));
         return new ResponseEntity<>("User deleted successfully", HttpStatus.OK);
     }
 
@@ -0,0 +1,65 @@
+package com.example.eventmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Events changed and removed since a sync token, with the token to use next time")
+public class EventChangesResponseDTO {
+
+    @Schema(description = "Accessible events created or updated since the token, oldest change first")
+    private List<EventResponseDTO> changed;
+
+    @Schema(description = "Events to drop from your copy, oldest removal first")
+    private List<EventRemovalDTO> removed;
+
+    @Schema(description = "Token for the next call (always returned, even when nothing changed)", example = "MjAyNS0xMS0yOFQxMzowMzowMC4xMjM0NTZ8NDJ8MTAwMC0wMS0wMVQwMDowMHww")
+    private String nextToken;
+
+    @Schema(description = "Whether more changes are waiting - call again right away with nextToken", example = "false")
+    private boolean hasMore;
+
+    // Constructors
+    public EventChangesResponseDTO() {
+    }
+
+    public EventChangesResponseDTO(List<EventResponseDTO> changed, List<EventRemovalDTO> removed,
+                                   String nextToken, boolean hasMore) {
+        this.changed = changed;
+        this.removed = removed;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<EventResponseDTO> getChanged() {
+        return changed;
+    }
+
+    public void setChanged(List<EventResponseDTO> changed) {
+        this.changed = changed;
+    }
+
+    public List<EventRemovalDTO> getRemoved() {
+        return removed;
+    }
+
+    public void setRemoved(List<EventRemovalDTO> removed) {
+        this.removed = removed;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public void setNextToken(String nextToken) {
+        this.nextToken = nextToken;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.eventmanagement.dto;
+
+import com.example.eventmanagement.enums.ConflictType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Schema(description = "An existing event overlapping the requested time slot")
+public class EventConflictDTO {
+
+    @Schema(description = "VENUE: same location is booked; PARTICIPANT: the user is busy", example = "VENUE")
+    private ConflictType conflictType;
+
+    @Schema(description = "Busy user (PARTICIPANT conflicts only)", example = "7")
+    private Long userId;
+
+    @Schema(description = "ID of the overlapping event", example = "42")
+    private Long eventId;
+
+    @Schema(description = "Title of the overlapping event (hidden for PRIVATE events you cannot access)", example = "Spring Boot Workshop")
+    private String title;
+
+    @Schema(description = "Location of the overlapping event (hidden for PRIVATE events you cannot access)", example = "Dhaka, Bangladesh")
+    private String location;
+
+    @Schema(description = "Date of the overlapping event", example = "2025-12-20", type = "string", format = "date")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate eventDate;
+
+    @Schema(description = "Start time of the overlapping event", example = "10:00:00", type = "string", format = "time")
+    @JsonFormat(pattern = "HH:mm:ss")
+    private LocalTime startTime;
+
+    @Schema(description = "End time of the overlapping event", example = "14:00:00", type = "string", format = "time")
+    @JsonFormat(pattern = "HH:mm:ss")
+    private LocalTime endTime;
+
+    // Constructors
+    public EventConflictDTO() {
+    }
+
+    public EventConflictDTO(ConflictType conflictType, Long userId, Long eventId, String title, String location,
+                            LocalDate eventDate, LocalTime startTime, LocalTime endTime) {
+        this.conflictType = conflictType;
+        this.userId = userId;
+        this.eventId = eventId;
+        this.title = title;
+        this.location = location;
+        this.eventDate = eventDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    // Getters and Setters
+    public ConflictType getConflictType() {
+        return conflictType;
+    }
+
+    public void setConflictType(ConflictType conflictType) {
+        this.conflictType = conflictType;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public LocalDate getEventDate() {
+        return eventDate;
+    }
+
+    public void setEventDate(LocalDate eventDate) {
+        this.eventDate = eventDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+}
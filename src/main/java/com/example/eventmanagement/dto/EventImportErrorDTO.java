@@ -0,0 +1,50 @@
+package com.example.eventmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A row that could not be imported")
+public class EventImportErrorDTO {
+
+    @Schema(description = "Line number in the uploaded file (1-based)", example = "42")
+    private long line;
+
+    @Schema(description = "Event title from the row, if it could be read", example = "Spring Boot Workshop")
+    private String title;
+
+    @Schema(description = "Why the row was rejected", example = "Event date cannot be in the past")
+    private String message;
+
+    public EventImportErrorDTO() {
+    }
+
+    public EventImportErrorDTO(long line, String title, String message) {
+        this.line = line;
+        this.title = title;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
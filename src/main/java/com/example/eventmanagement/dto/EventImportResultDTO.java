@@ -0,0 +1,75 @@
+package com.example.eventmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Outcome of a bulk event import")
+public class EventImportResultDTO {
+
+    // Keeps the response bounded when a whole file is malformed
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    @Schema(description = "Number of data rows read from the file", example = "5000")
+    private long totalRows;
+
+    @Schema(description = "Number of events created", example = "4990")
+    private long importedCount;
+
+    @Schema(description = "Number of rows rejected", example = "10")
+    private long failedCount;
+
+    @Schema(description = "Rejected rows with the reason (first 1000 only)")
+    private List<EventImportErrorDTO> errors = new ArrayList<>();
+
+    public EventImportResultDTO() {
+    }
+
+    public void addRows(long rows) {
+        this.totalRows += rows;
+    }
+
+    public void addImported(long imported) {
+        this.importedCount += imported;
+    }
+
+    public void addError(EventImportErrorDTO error) {
+        this.failedCount++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(error);
+        }
+    }
+
+    // Getters and Setters
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public void setImportedCount(long importedCount) {
+        this.importedCount = importedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public List<EventImportErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<EventImportErrorDTO> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.eventmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import java.util.HashSet;
+import java.util.Set;
+
+@Schema(description = "DTO for changing the invitations of a private event in one request (only the listed users are touched)")
+public class EventInvitationPatchDTO {
+
+    @Schema(description = "Event ID", example = "1")
+    @NotNull(message = "Event ID is required")
+    private Long eventId;
+
+    @Schema(description = "User IDs to invite (already invited users are ignored)", example = "[4, 5]")
+    private Set<Long> addUserIds = new HashSet<>();
+
+    @Schema(description = "User IDs to remove (users who are not invited are ignored)", example = "[2]")
+    private Set<Long> removeUserIds = new HashSet<>();
+
+    // Constructors
+    public EventInvitationPatchDTO() {
+    }
+
+    public EventInvitationPatchDTO(Long eventId, Set<Long> addUserIds, Set<Long> removeUserIds) {
+        this.eventId = eventId;
+        this.addUserIds = addUserIds;
+        this.removeUserIds = removeUserIds;
+    }
+
+    // Getters and Setters
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Set<Long> getAddUserIds() {
+        return addUserIds;
+    }
+
+    public void setAddUserIds(Set<Long> addUserIds) {
+        this.addUserIds = addUserIds;
+    }
+
+    public Set<Long> getRemoveUserIds() {
+        return removeUserIds;
+    }
+
+    public void setRemoveUserIds(Set<Long> removeUserIds) {
+        this.removeUserIds = removeUserIds;
+    }
+}
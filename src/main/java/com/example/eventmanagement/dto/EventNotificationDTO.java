@@ -0,0 +1,40 @@
+package com.example.eventmanagement.dto;
+
+import com.example.eventmanagement.enums.EventChangeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Push notification that an event you can see was created, updated or deleted")
+public class EventNotificationDTO {
+
+    @Schema(description = "What happened to the event", example = "UPDATED")
+    private EventChangeType changeType;
+
+    @Schema(description = "ID of the event", example = "42")
+    private Long eventId;
+
+    // Constructors
+    public EventNotificationDTO() {
+    }
+
+    public EventNotificationDTO(EventChangeType changeType, Long eventId) {
+        this.changeType = changeType;
+        this.eventId = eventId;
+    }
+
+    // Getters and Setters
+    public EventChangeType getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(EventChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.eventmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "One page of events with a cursor for fetching the next page")
+public class EventPageResponseDTO {
+
+    @Schema(description = "Events in this page")
+    private List<EventResponseDTO> content;
+
+    @Schema(description = "Opaque cursor for the next page (null when there are no more events)", example = "MjAyNS0xMi0yMHwxMDowMHw0Mg")
+    private String nextCursor;
+
+    @Schema(description = "Whether more events exist after this page", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Number of events in this page", example = "10")
+    private int size;
+
+    @Schema(description = "Total number of matching events (only returned for the first page)", example = "125")
+    private Long totalElements;
+
+    // Constructors
+    public EventPageResponseDTO() {
+    }
+
+    public EventPageResponseDTO(List<EventResponseDTO> content, String nextCursor, boolean hasNext, Long totalElements) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.size = content.size();
+        this.totalElements = totalElements;
+    }
+
+    // Getters and Setters
+    public List<EventResponseDTO> getContent() {
+        return content;
+    }
+
+    public void setContent(List<EventResponseDTO> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(Long totalElements) {
+        this.totalElements = totalElements;
+    }
+}
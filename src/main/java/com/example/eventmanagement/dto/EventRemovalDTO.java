@@ -0,0 +1,40 @@
+package com.example.eventmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+@Schema(description = "An event that left your view (deleted, made private, or you were uninvited)")
+public class EventRemovalDTO {
+
+    @Schema(description = "ID of the removed event", example = "42")
+    private Long eventId;
+
+    @Schema(description = "When it was removed - ignore the removal if your copy's updatedAt is not older", example = "2025-11-28T13:03:00.123456")
+    private LocalDateTime removedAt;
+
+    // Constructors
+    public EventRemovalDTO() {
+    }
+
+    public EventRemovalDTO(Long eventId, LocalDateTime removedAt) {
+        this.eventId = eventId;
+        this.removedAt = removedAt;
+    }
+
+    // Getters and Setters
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public LocalDateTime getRemovedAt() {
+        return removedAt;
+    }
+
+    public void setRemovedAt(LocalDateTime removedAt) {
+        this.removedAt = removedAt;
+    }
+}
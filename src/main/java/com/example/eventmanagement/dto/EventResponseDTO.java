@@ -52,6 +52,9 @@ public class EventResponseDTO {
     @Schema(description = "Timestamp when the event was last updated", example = "2025-11-28T13:03:00.123456")
     private LocalDateTime updatedAt;
 
+    @Schema(description = "Version of the event, bumped on every change. Send it quoted in If-Match (e.g. \"3\") to update or delete only this version", example = "3")
+    private Long version;
+
     // Constructors
     public EventResponseDTO() {
     }
@@ -70,6 +73,19 @@ public class EventResponseDTO {
         this.updatedAt = updatedAt;
     }
 
+    // Listing projection: event columns, organizer basics and invitee count from one query
+    public EventResponseDTO(Long id, String title, String description,
+                            LocalDate eventDate, LocalTime startTime, LocalTime endTime,
+                            String location, EventType eventType, LocalDateTime createdAt, LocalDateTime updatedAt,
+                            Long organizerId, String organizerUsername, String organizerFullName, String organizerEmail,
+                            Integer invitedUsersCount, Long version) {
+        this(id, title, description, eventDate, startTime, endTime, location, createdAt, updatedAt);
+        this.eventType = eventType;
+        this.organizer = new UserBasicDTO(organizerId, organizerUsername, organizerFullName, organizerEmail);
+        this.invitedUsersCount = invitedUsersCount;
+        this.version = version;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -174,4 +190,12 @@ public class EventResponseDTO {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
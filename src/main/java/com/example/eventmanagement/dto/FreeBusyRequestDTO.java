@@ -0,0 +1,101 @@
+package com.example.eventmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+@Schema(description = "Users and date window to compute availability for")
+public class FreeBusyRequestDTO {
+
+    @Schema(description = "Users whose events count as busy time", example = "[2, 3, 4]")
+    @NotEmpty(message = "At least one user ID is required")
+    @Size(max = 1000, message = "At most 1000 users can be checked at once")
+    private Set<Long> userIds;
+
+    @Schema(description = "First day of the window", example = "2025-12-20", type = "string", format = "date")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @NotNull(message = "From date is required")
+    private LocalDate fromDate;
+
+    @Schema(description = "Last day of the window (inclusive)", example = "2025-12-31", type = "string", format = "date")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @NotNull(message = "To date is required")
+    private LocalDate toDate;
+
+    @Schema(description = "Start of the daily window free slots are looked for in (defaults to 00:00)", example = "09:00:00", type = "string", format = "time")
+    @JsonFormat(pattern = "HH:mm:ss")
+    private LocalTime dayStart;
+
+    @Schema(description = "End of the daily window (defaults to midnight)", example = "18:00:00", type = "string", format = "time")
+    @JsonFormat(pattern = "HH:mm:ss")
+    private LocalTime dayEnd;
+
+    @Schema(description = "Shortest free slot worth reporting, in minutes (defaults to 30)", example = "60")
+    @Min(value = 1, message = "Minimum duration must be at least 1 minute")
+    private Integer minDurationMinutes;
+
+    // Constructors
+    public FreeBusyRequestDTO() {
+    }
+
+    public FreeBusyRequestDTO(Set<Long> userIds, LocalDate fromDate, LocalDate toDate) {
+        this.userIds = userIds;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+    }
+
+    // Getters and Setters
+    public Set<Long> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(Set<Long> userIds) {
+        this.userIds = userIds;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+
+    public LocalTime getDayStart() {
+        return dayStart;
+    }
+
+    public void setDayStart(LocalTime dayStart) {
+        this.dayStart = dayStart;
+    }
+
+    public LocalTime getDayEnd() {
+        return dayEnd;
+    }
+
+    public void setDayEnd(LocalTime dayEnd) {
+        this.dayEnd = dayEnd;
+    }
+
+    public Integer getMinDurationMinutes() {
+        return minDurationMinutes;
+    }
+
+    public void setMinDurationMinutes(Integer minDurationMinutes) {
+        this.minDurationMinutes = minDurationMinutes;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.eventmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Busy time per user and the slots when all of them are free")
+public class FreeBusyResponseDTO {
+
+    @Schema(description = "First day of the window", example = "2025-12-20", type = "string", format = "date")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate fromDate;
+
+    @Schema(description = "Last day of the window (inclusive)", example = "2025-12-31", type = "string", format = "date")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate toDate;
+
+    @Schema(description = "Slots inside the daily window when every user is free, in time order")
+    private List<TimeSlotDTO> freeSlots;
+
+    @Schema(description = "Merged busy time per user ID (events they organize or are invited to)")
+    private Map<Long, List<TimeSlotDTO>> busy;
+
+    // Constructors
+    public FreeBusyResponseDTO() {
+    }
+
+    public FreeBusyResponseDTO(LocalDate fromDate, LocalDate toDate,
+                               List<TimeSlotDTO> freeSlots, Map<Long, List<TimeSlotDTO>> busy) {
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.freeSlots = freeSlots;
+        this.busy = busy;
+    }
+
+    // Getters and Setters
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+
+    public List<TimeSlotDTO> getFreeSlots() {
+        return freeSlots;
+    }
+
+    public void setFreeSlots(List<TimeSlotDTO> freeSlots) {
+        this.freeSlots = freeSlots;
+    }
+
+    public Map<Long, List<TimeSlotDTO>> getBusy() {
+        return busy;
+    }
+
+    public void setBusy(Map<Long, List<TimeSlotDTO>> busy) {
+        this.busy = busy;
+    }
+}
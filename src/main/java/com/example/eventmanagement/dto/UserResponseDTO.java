@@ -41,6 +41,9 @@ public class UserResponseDTO {
     @Schema(description = "Last update timestamp", example = "2025-12-02T13:55:00.123456")
     private LocalDateTime updatedAt;
 
+    @Schema(description = "Version of the user, bumped on every change. Send it quoted in If-Match (e.g. \"3\") to update only this version", example = "3")
+    private Long version;
+
     // Constructors
     public UserResponseDTO() {
     }
@@ -136,6 +139,14 @@ public class UserResponseDTO {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public LocalDate getDateOfBirth() {
         return dateOfBirth;
     }
@@ -13,6 +13,7 @@ public enum ActivityType {
     EVENT_CREATE("EVENT_CREATE", "Event Created"),
     EVENT_UPDATE("EVENT_UPDATE", "Event Updated"),
     EVENT_DELETE("EVENT_DELETE", "Event Deleted"),
+    EVENT_IMPORT("EVENT_IMPORT", "Events Imported"),
 
     // Role activities
     ROLE_CREATE("ROLE_CREATE", "Role Created"),
@@ -0,0 +1,7 @@
+package com.example.eventmanagement.enums;
+
+public enum ConflictPolicy {
+    REJECT,   // Refuse the booking
+    WARN,     // Allow it and log a warning
+    IGNORE    // Do not check
+}
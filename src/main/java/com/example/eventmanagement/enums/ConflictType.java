@@ -0,0 +1,6 @@
+package com.example.eventmanagement.enums;
+
+public enum ConflictType {
+    VENUE,        // Another event is booked at the same location
+    PARTICIPANT   // The user organizes or is invited to another event at that time
+}
@@ -0,0 +1,7 @@
+package com.example.eventmanagement.enums;
+
+public enum EventChangeType {
+    CREATED,   // New event saved
+    UPDATED,   // Event fields or invitations changed
+    DELETED    // Event removed
+}
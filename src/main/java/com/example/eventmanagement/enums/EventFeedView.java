@@ -0,0 +1,11 @@
+package com.example.eventmanagement.enums;
+
+public enum EventFeedView {
+    ALL,             // PUBLIC + organized + invited (same as GET /events)
+    PUBLIC,          // PUBLIC events only
+    UPCOMING,        // Accessible events from today onwards
+    PAST,            // Events before today
+    TODAY,           // Events happening today
+    MY_ORGANIZED,    // Events organized by the current user
+    MY_INVITATIONS   // Events the current user is invited to
+}
@@ -0,0 +1,13 @@
+package com.example.eventmanagement.enums;
+
+public enum EventImportFormat {
+    NDJSON,   // One EventRequestDTO JSON object per line (application/x-ndjson)
+    CSV;      // Header row followed by one event per line (text/csv)
+
+    public static EventImportFormat fromContentType(String contentType) {
+        if (contentType != null && contentType.toLowerCase().startsWith("text/csv")) {
+            return CSV;
+        }
+        return NDJSON;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.eventmanagement.enums;
+
+public enum EventJsonView {
+    BASIC,      // Event details with invited users count (everyone with access)
+    ORGANIZER   // Event details including the invited users list (organizer only)
+}
@@ -0,0 +1,17 @@
+package com.example.eventmanagement.enums;
+
+public enum EventSearchField {
+    TITLE(3.0),        // Title matches rank highest
+    LOCATION(2.0),     // Then location
+    DESCRIPTION(1.0);  // Then description
+
+    private final double weight;
+
+    EventSearchField(double weight) {
+        this.weight = weight;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.eventmanagement.enums;
+
+public enum OverflowPolicy {
+    BLOCK,        // Wait up to the offer timeout for space, then drop
+    DROP,         // Drop the new record immediately
+    CALLER_RUNS   // Write the record synchronously on the calling thread
+}
@@ -0,0 +1,131 @@
+package com.example.eventmanagement.event;
+
+import com.example.eventmanagement.enums.EventChangeType;
+import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.model.Event;
+import com.example.eventmanagement.model.User;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Published by EventService whenever an event is created, updated or deleted
+ * Carries a snapshot of the event so listeners never have to reload it
+ */
+public class EventChangedEvent {
+
+    private final EventChangeType changeType;
+    private final Long eventId;
+    private final String title;
+    private final String description;
+    private final String location;
+    private final LocalDate eventDate;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final EventType eventType;
+    private final Long organizerId;
+    private final Set<Long> invitedUserIds;
+    // Who could see the event before this change but may not any more
+    private final EventType previousEventType;
+    private final Set<Long> removedUserIds;
+
+    private EventChangedEvent(EventChangeType changeType, Event event, Set<Long> invitedUserIds,
+                              EventType previousEventType, Set<Long> removedUserIds) {
+        this.changeType = changeType;
+        this.eventId = event.getId();
+        this.title = event.getTitle();
+        this.description = event.getDescription();
+        this.location = event.getLocation();
+        this.eventDate = event.getEventDate();
+        this.startTime = event.getStartTime();
+        this.endTime = event.getEndTime();
+        this.eventType = event.getEventType();
+        this.organizerId = event.getOrganizer() != null ? event.getOrganizer().getId() : null;
+        this.invitedUserIds = invitedUserIds;
+        this.previousEventType = previousEventType;
+        this.removedUserIds = removedUserIds;
+    }
+
+    public static EventChangedEvent created(Event event) {
+        return new EventChangedEvent(EventChangeType.CREATED, event, invitedUserIds(event), event.getEventType(), Set.of());
+    }
+
+    // Invitations written with bulk statements: the caller passes the resulting invitee IDs (the entity's set is left unloaded)
+    public static EventChangedEvent updated(Event event, Collection<Long> invitedUserIds) {
+        return updated(event, event.getEventType(), invitedUserIds, Set.of());
+    }
+
+    // An update that may have taken the event away from users: its type before the change and the uninvited user IDs
+    public static EventChangedEvent updated(Event event, EventType previousEventType, Collection<Long> invitedUserIds,
+                                            Collection<Long> removedUserIds) {
+        return new EventChangedEvent(EventChangeType.UPDATED, event, Set.copyOf(invitedUserIds),
+                previousEventType, Set.copyOf(removedUserIds));
+    }
+
+    // Invitations are not read for deletes (the collection may not be loaded and the rows are gone)
+    public static EventChangedEvent deleted(Event event) {
+        return new EventChangedEvent(EventChangeType.DELETED, event, Set.of(), event.getEventType(), Set.of());
+    }
+
+    private static Set<Long> invitedUserIds(Event event) {
+        return event.getInvitedUsers().stream()
+                .map(User::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    // Getters
+    public EventChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public LocalDate getEventDate() {
+        return eventDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    public Long getOrganizerId() {
+        return organizerId;
+    }
+
+    public Set<Long> getInvitedUserIds() {
+        return invitedUserIds;
+    }
+
+    public EventType getPreviousEventType() {
+        return previousEventType;
+    }
+
+    public Set<Long> getRemovedUserIds() {
+        return removedUserIds;
+    }
+}
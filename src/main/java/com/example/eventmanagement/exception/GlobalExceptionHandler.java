@@ -1,7 +1,10 @@
 package com.example.eventmanagement.exception;
 
 import com.example.eventmanagement.dto.ErrorResponseDto;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -10,6 +13,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -223,6 +227,57 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handle MethodArgumentTypeMismatchException (400 BAD REQUEST)
+     * Used when: A request parameter cannot be converted to the expected type
+     *
+     * Example scenarios:
+     * - Unknown feed view (e.g. view=SOMETHING)
+     * - Non-numeric ID in the path
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponseDto> handleMethodArgumentTypeMismatchException(
+            MethodArgumentTypeMismatchException ex,
+            WebRequest webRequest) {
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                webRequest.getDescription(false),
+                HttpStatus.BAD_REQUEST,
+                "Invalid value '" + ex.getValue() + "' for parameter '" + ex.getName() + "'",
+                LocalDateTime.now()
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handle version conflicts (409 CONFLICT)
+     * Used when: A write was based on an outdated version of a user or event
+     * Writes without If-Match are retried a few times first, so clients only see this under heavy contention
+     *
+     * Example scenarios:
+     * - If-Match version is no longer the current one (someone else changed the record)
+     * - Concurrent edits of the same event kept colliding after the automatic retries
+     * - The record was deleted while being updated
+     */
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<ErrorResponseDto> handleOptimisticLockingFailureException(
+            RuntimeException ex,
+            WebRequest webRequest) {
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                webRequest.getDescription(false),
+                HttpStatus.CONFLICT,
+                // Messages raised by the persistence layer name internal classes - only If-Match messages are passed on
+                ex instanceof OptimisticLockException || ex instanceof ObjectOptimisticLockingFailureException
+                        ? "The record was changed by another request - reload it and retry"
+                        : ex.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     /**
      * Handle RuntimeException (500 INTERNAL SERVER ERROR)
      * Used for: Generic runtime errors not covered by specific handlers
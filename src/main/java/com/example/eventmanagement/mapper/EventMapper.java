@@ -55,6 +55,7 @@ public class EventMapper {
         dto.setEventType(event.getEventType());
         dto.setCreatedAt(event.getCreatedAt());
         dto.setUpdatedAt(event.getUpdatedAt());
+        dto.setVersion(event.getVersion());
 
         // Map organizer
         if (event.getOrganizer() != null) {
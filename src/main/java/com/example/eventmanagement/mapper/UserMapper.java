@@ -40,6 +40,7 @@ public class UserMapper {
         dto.setActive(user.getActive());
         dto.setCreatedAt(user.getCreatedAt());
         dto.setUpdatedAt(user.getUpdatedAt());
+        dto.setVersion(user.getVersion());
 
         // Convert role to DTO
         dto.setRole(roleMapper.toDTO(user.getRole()));
@@ -6,8 +6,11 @@ import java.time.LocalDateTime;
 @MappedSuperclass
 public abstract class BaseEntity {
 
+    // Pooled table allocation shared by all BaseEntity subclasses (IDENTITY would disable JDBC insert batching)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "entity_id")
+    @TableGenerator(name = "entity_id", table = "id_generator", pkColumnName = "gen_name",
+            valueColumnName = "gen_value", pkColumnValue = "entity", allocationSize = 50)
     private Long id;
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -16,6 +19,12 @@ public abstract class BaseEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Optimistic locking: every UPDATE checks and bumps it, so a write based on a stale read fails instead of
+    // silently overwriting (existing rows start at 0 when the column is added)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -50,4 +59,12 @@ public abstract class BaseEntity {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -10,7 +10,14 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        // Delta sync scans events by (updated_at, id) past a watermark
+        @Index(name = "idx_events_updated_at_id", columnList = "updated_at, id"),
+        // Upcoming feeds merge the PUBLIC events in (eventDate, startTime, id) order
+        @Index(name = "idx_events_type_date", columnList = "event_type, event_date, start_time, id"),
+        // Access filter: the organizer's PRIVATE events in (eventDate, startTime, id) order
+        @Index(name = "idx_events_organizer_type_date", columnList = "organizer_id, event_type, event_date, start_time, id")
+})
 public class Event extends BaseEntity {
 
     @NotBlank(message = "Event title is required")
@@ -53,7 +60,9 @@ public class Event extends BaseEntity {
     @JoinTable(
             name = "event_invitations",
             joinColumns = @JoinColumn(name = "event_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
+            inverseJoinColumns = @JoinColumn(name = "user_id"),
+            // Access filter and "my invitations" look invitations up by user
+            indexes = @Index(name = "idx_event_invitations_user_event", columnList = "user_id, event_id")
     )
     private Set<User> invitedUsers = new HashSet<>();
 
@@ -0,0 +1,75 @@
+package com.example.eventmanagement.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Tombstone for delta sync (GET /events/changes): an event left the view of one user or of everyone
+ * Written when an event is hard-deleted, made PRIVATE, or a user is uninvited
+ */
+@Entity
+@Table(name = "event_removals", indexes = {
+        @Index(name = "idx_event_removals_removed_at_id", columnList = "removed_at, id")
+})
+public class EventRemoval {
+
+    // Pooled table allocation (IDENTITY would disable JDBC insert batching)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "event_removal_id")
+    @TableGenerator(name = "event_removal_id", table = "id_generator", pkColumnName = "gen_name",
+            valueColumnName = "gen_value", pkColumnValue = "event_removal", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    // User who lost access; null when the event is gone for everyone
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "removed_at", nullable = false)
+    private LocalDateTime removedAt;
+
+    // Constructors
+    public EventRemoval() {
+    }
+
+    public EventRemoval(Long eventId, Long userId, LocalDateTime removedAt) {
+        this.eventId = eventId;
+        this.userId = userId;
+        this.removedAt = removedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getRemovedAt() {
+        return removedAt;
+    }
+
+    public void setRemovedAt(LocalDateTime removedAt) {
+        this.removedAt = removedAt;
+    }
+}
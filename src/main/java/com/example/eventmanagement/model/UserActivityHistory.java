@@ -16,8 +16,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class UserActivityHistory {
 
+    // Pooled table allocation (IDENTITY would disable JDBC insert batching)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_activity_history_id")
+    @TableGenerator(name = "user_activity_history_id", table = "id_generator", pkColumnName = "gen_name",
+            valueColumnName = "gen_value", pkColumnValue = "user_activity_history", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -0,0 +1,99 @@
+package com.example.eventmanagement.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Materialized upcoming-events feed: one row per user per PRIVATE event they organize or are invited to
+ * Maintained by EventService on every write; PUBLIC events are not fanned out and are merged in at read time
+ * Event date and start time are copied so a user's feed is one ordered range scan of idx_user_event_feed_user_date
+ */
+@Entity
+@Table(name = "user_event_feed", indexes = {
+        @Index(name = "idx_user_event_feed_user_date", columnList = "user_id, event_date, start_time, event_id"),
+        @Index(name = "idx_user_event_feed_event", columnList = "event_id")
+})
+@IdClass(UserEventFeedEntry.Key.class)
+public class UserEventFeedEntry {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Id
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "event_date", nullable = false)
+    private LocalDate eventDate;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    // Constructors
+    public UserEventFeedEntry() {
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public LocalDate getEventDate() {
+        return eventDate;
+    }
+
+    public void setEventDate(LocalDate eventDate) {
+        this.eventDate = eventDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    // Composite primary key (user_id, event_id)
+    public static class Key implements Serializable {
+
+        private Long userId;
+        private Long eventId;
+
+        public Key() {
+        }
+
+        public Key(Long userId, Long eventId) {
+            this.userId = userId;
+            this.eventId = eventId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(userId, key.userId) && Objects.equals(eventId, key.eventId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, eventId);
+        }
+    }
+}
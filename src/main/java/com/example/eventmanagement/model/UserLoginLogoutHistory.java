@@ -16,8 +16,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class UserLoginLogoutHistory {
 
+    // Pooled table allocation (IDENTITY would disable JDBC insert batching)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_login_logout_history_id")
+    @TableGenerator(name = "user_login_logout_history_id", table = "id_generator", pkColumnName = "gen_name",
+            valueColumnName = "gen_value", pkColumnValue = "user_login_logout_history", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false, length = 100)
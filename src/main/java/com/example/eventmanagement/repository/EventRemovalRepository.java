@@ -0,0 +1,25 @@
+package com.example.eventmanagement.repository;
+
+import com.example.eventmanagement.model.EventRemoval;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EventRemovalRepository extends JpaRepository<EventRemoval, Long> {
+
+    // Tombstones for the user strictly after the (removedAt, id) watermark, up to the settle horizon
+    @Query("SELECT r FROM EventRemoval r WHERE (r.userId IS NULL OR r.userId = :userId) " +
+            "AND (r.removedAt > :afterRemovedAt OR (r.removedAt = :afterRemovedAt AND r.id > :afterId)) " +
+            "AND r.removedAt <= :until ORDER BY r.removedAt ASC, r.id ASC")
+    List<EventRemoval> findRemovalsAfter(@Param("userId") Long userId,
+                                         @Param("afterRemovedAt") LocalDateTime afterRemovedAt,
+                                         @Param("afterId") Long afterId,
+                                         @Param("until") LocalDateTime until,
+                                         Pageable limit);
+}
@@ -1,25 +1,54 @@
 package com.example.eventmanagement.repository;
 
+import com.example.eventmanagement.dto.EventResponseDTO;
 import com.example.eventmanagement.enums.EventType;
 import com.example.eventmanagement.model.Event;
 import com.example.eventmanagement.model.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
 
+    // Access rule: PUBLIC, organized by the user, or user is invited
+    // EXISTS keeps one row per event, so no DISTINCT is needed and COUNT stays cheap
+    String ACCESSIBLE_BY_USER = "(e.eventType = 'PUBLIC' OR e.organizer.id = :userId " +
+            "OR EXISTS (SELECT iu.id FROM e.invitedUsers iu WHERE iu.id = :userId))";
+
+    // Keyset predicate: rows strictly after the cursor in (eventDate, startTime, id) order
+    String AFTER_CURSOR = "(e.eventDate > :cursorDate OR (e.eventDate = :cursorDate AND " +
+            "(e.startTime > :cursorTime OR (e.startTime = :cursorTime AND e.id > :cursorId))))";
+
+    String KEYSET_ORDER = " ORDER BY e.eventDate ASC, e.startTime ASC, e.id ASC";
+
+    // Listing projection: event columns, organizer basics and invitee count in a single statement
+    // (avoids the lazy organizer / invitedUsers loads per row when mapping entities)
+    String RESPONSE_VIEW = "SELECT new com.example.eventmanagement.dto.EventResponseDTO(e.id, e.title, e.description, " +
+            "e.eventDate, e.startTime, e.endTime, e.location, e.eventType, e.createdAt, e.updatedAt, " +
+            "o.id, o.username, o.fullName, o.email, SIZE(e.invitedUsers), e.version) FROM Event e JOIN e.organizer o";
+
     // ========== EXISTING METHODS (Your original code) ==========
 
     // Check if event title already exists (for duplicate validation)
     boolean existsByTitle(String title);
 
+    // Find all event titles (loaded once per bulk import for duplicate checks)
+    @Query("SELECT e.title FROM Event e")
+    List<String> findAllTitles();
+
     // Find event by title
     Optional<Event> findByTitle(String title);
 
@@ -46,35 +75,279 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     // Find events by type (PUBLIC or PRIVATE)
     List<Event> findByEventType(EventType eventType);
 
-    // Find all PUBLIC events
-    @Query("SELECT e FROM Event e WHERE e.eventType = 'PUBLIC' ORDER BY e.eventDate ASC, e.startTime ASC")
-    List<Event> findAllPublicEvents();
-
     // Find events organized by a specific user
     List<Event> findByOrganizer(User organizer);
 
     // Find events organized by user ID
     List<Event> findByOrganizerId(Long organizerId);
 
-    // Find events where user is invited
-    @Query("SELECT e FROM Event e JOIN e.invitedUsers u WHERE u.id = :userId")
-    List<Event> findEventsByInvitedUserId(@Param("userId") Long userId);
-
-    // Find events user can access (public + organized by user + invited to)
-    @Query("SELECT DISTINCT e FROM Event e LEFT JOIN e.invitedUsers u " +
-            "WHERE e.eventType = 'PUBLIC' OR e.organizer.id = :userId OR u.id = :userId " +
-            "ORDER BY e.eventDate ASC, e.startTime ASC")
-    List<Event> findAccessibleEventsByUserId(@Param("userId") Long userId);
-
     // Find upcoming public events
     @Query("SELECT e FROM Event e WHERE e.eventType = 'PUBLIC' AND e.eventDate >= :date " +
             "ORDER BY e.eventDate ASC, e.startTime ASC")
     List<Event> findUpcomingPublicEvents(@Param("date") LocalDate date);
 
-    // Find upcoming events for a user (public + their private events)
-    @Query("SELECT DISTINCT e FROM Event e LEFT JOIN e.invitedUsers u " +
-            "WHERE e.eventDate >= :date AND " +
-            "(e.eventType = 'PUBLIC' OR e.organizer.id = :userId OR u.id = :userId) " +
-            "ORDER BY e.eventDate ASC, e.startTime ASC")
-    List<Event> findUpcomingEventsForUser(@Param("userId") Long userId, @Param("date") LocalDate date);
+    // ========== ACCESS FILTER (UNION ALL) ==========
+    // "PUBLIC OR organizer OR invited" as three disjoint branches, each an ordered range scan of its own index:
+    // - PUBLIC events: idx_events_type_date
+    // - the user's PRIVATE events: idx_events_organizer_type_date
+    // - the user's invitations: idx_event_invitations_user_event, events joined by primary key
+    // The invitation branch skips PUBLIC events and the user's own events, which the first two branches already
+    // return (invitations left over from older data would otherwise show twice), so no DISTINCT is needed
+    // Each branch is cut to the page limit before the merge on (event_date, start_time, id)
+
+    String NATIVE_AFTER_CURSOR = "(e.event_date > :cursorDate OR (e.event_date = :cursorDate AND " +
+            "(e.start_time > :cursorTime OR (e.start_time = :cursorTime AND e.id > :cursorId))))";
+
+    String NATIVE_KEYSET_ORDER = " ORDER BY e.event_date, e.start_time, e.id LIMIT :branchLimit";
+
+    String ACCESSIBLE_BRANCHES = "(SELECT e.id, e.event_date, e.start_time FROM events e " +
+            "WHERE e.event_type = 'PUBLIC' AND " + NATIVE_AFTER_CURSOR + NATIVE_KEYSET_ORDER + ") " +
+            "UNION ALL " +
+            "(SELECT e.id, e.event_date, e.start_time FROM events e " +
+            "WHERE e.organizer_id = :userId AND e.event_type = 'PRIVATE' AND " + NATIVE_AFTER_CURSOR + NATIVE_KEYSET_ORDER + ") " +
+            "UNION ALL " +
+            "(SELECT e.id, e.event_date, e.start_time FROM event_invitations ei JOIN events e ON e.id = ei.event_id " +
+            "WHERE ei.user_id = :userId AND e.event_type = 'PRIVATE' AND e.organizer_id <> :userId AND " +
+            NATIVE_AFTER_CURSOR + NATIVE_KEYSET_ORDER + ")";
+
+    // IDs of accessible events after the cursor, in feed order (caller loads the views and restores the order)
+    @Query(value = "SELECT a.id FROM (" + ACCESSIBLE_BRANCHES + ") a " +
+            "ORDER BY a.event_date, a.start_time, a.id LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> findAccessibleEventIds(@Param("userId") Long userId,
+                                      @Param("cursorDate") LocalDate cursorDate,
+                                      @Param("cursorTime") LocalTime cursorTime,
+                                      @Param("cursorId") Long cursorId,
+                                      @Param("branchLimit") long branchLimit,
+                                      @Param("limit") int limit,
+                                      @Param("offset") long offset);
+
+    // Count accessible events (total for the first page of a feed) - the same three disjoint branches
+    @Query(value = "SELECT (SELECT COUNT(*) FROM events e WHERE e.event_type = 'PUBLIC') + " +
+            "(SELECT COUNT(*) FROM events e WHERE e.organizer_id = :userId AND e.event_type = 'PRIVATE') + " +
+            "(SELECT COUNT(*) FROM event_invitations ei JOIN events e ON e.id = ei.event_id " +
+            "WHERE ei.user_id = :userId AND e.event_type = 'PRIVATE' AND e.organizer_id <> :userId)", nativeQuery = true)
+    long countAccessibleEvents(@Param("userId") Long userId);
+
+    // ========== KEYSET FEEDS PER LISTING VIEW ==========
+
+    @Query(RESPONSE_VIEW + " WHERE e.eventType = 'PUBLIC' AND " + AFTER_CURSOR + KEYSET_ORDER)
+    List<EventResponseDTO> findPublicEventsAfter(@Param("cursorDate") LocalDate cursorDate,
+                                                 @Param("cursorTime") LocalTime cursorTime,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable limit);
+
+    @Query(RESPONSE_VIEW + " WHERE e.eventDate < :beforeDate AND " + AFTER_CURSOR + KEYSET_ORDER)
+    List<EventResponseDTO> findPastEventsAfter(@Param("beforeDate") LocalDate beforeDate,
+                                               @Param("cursorDate") LocalDate cursorDate,
+                                               @Param("cursorTime") LocalTime cursorTime,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable limit);
+
+    @Query(RESPONSE_VIEW + " WHERE e.eventDate = :date AND " + AFTER_CURSOR + KEYSET_ORDER)
+    List<EventResponseDTO> findEventsOnDateAfter(@Param("date") LocalDate date,
+                                                 @Param("cursorDate") LocalDate cursorDate,
+                                                 @Param("cursorTime") LocalTime cursorTime,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable limit);
+
+    @Query(RESPONSE_VIEW + " WHERE e.organizer.id = :userId AND " + AFTER_CURSOR + KEYSET_ORDER)
+    List<EventResponseDTO> findOrganizedEventsAfter(@Param("userId") Long userId,
+                                                    @Param("cursorDate") LocalDate cursorDate,
+                                                    @Param("cursorTime") LocalTime cursorTime,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable limit);
+
+    @Query(RESPONSE_VIEW + " WHERE EXISTS (SELECT iu.id FROM e.invitedUsers iu WHERE iu.id = :userId) AND " +
+            AFTER_CURSOR + KEYSET_ORDER)
+    List<EventResponseDTO> findInvitedEventsAfter(@Param("userId") Long userId,
+                                                  @Param("cursorDate") LocalDate cursorDate,
+                                                  @Param("cursorTime") LocalTime cursorTime,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable limit);
+
+    // ========== LISTING PROJECTIONS ==========
+
+    @Query(RESPONSE_VIEW + " WHERE e.eventType = 'PUBLIC'" + KEYSET_ORDER)
+    List<EventResponseDTO> findPublicEventViews();
+
+    @Query(RESPONSE_VIEW + " WHERE e.organizer.id = :userId" + KEYSET_ORDER)
+    List<EventResponseDTO> findOrganizedEventViews(@Param("userId") Long userId);
+
+    @Query(RESPONSE_VIEW + " WHERE EXISTS (SELECT iu.id FROM e.invitedUsers iu WHERE iu.id = :userId)" + KEYSET_ORDER)
+    List<EventResponseDTO> findInvitedEventViews(@Param("userId") Long userId);
+
+    @Query(RESPONSE_VIEW + " WHERE e.eventDate < :beforeDate" + KEYSET_ORDER)
+    List<EventResponseDTO> findPastEventViews(@Param("beforeDate") LocalDate beforeDate);
+
+    @Query(RESPONSE_VIEW + " WHERE e.eventDate = :date" + KEYSET_ORDER)
+    List<EventResponseDTO> findEventViewsOnDate(@Param("date") LocalDate date);
+
+    // Invitees of a page of events in one query: [eventId, userId, username, fullName, email]
+    @Query("SELECT e.id, u.id, u.username, u.fullName, u.email FROM Event e JOIN e.invitedUsers u WHERE e.id IN :eventIds")
+    List<Object[]> findInviteeRows(@Param("eventIds") Collection<Long> eventIds);
+
+    // Single event view without loading the entity (invitedUsers stays untouched)
+    @Query(RESPONSE_VIEW + " WHERE e.id = :id")
+    Optional<EventResponseDTO> findEventViewById(@Param("id") Long id);
+
+    // Membership probe: one primary-key lookup on event_invitations instead of loading every invitee
+    @Query("SELECT CASE WHEN COUNT(iu) > 0 THEN true ELSE false END FROM Event e JOIN e.invitedUsers iu " +
+            "WHERE e.id = :eventId AND iu.id = :userId")
+    boolean isUserInvited(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    // Events by ID for search results (caller restores rank order)
+    @Query(RESPONSE_VIEW + " WHERE e.id IN :ids")
+    List<EventResponseDTO> findEventViewsByIds(@Param("ids") Collection<Long> ids);
+
+    // Search without the in-memory index: substring of any field, same access rule, feed order
+    @Query(RESPONSE_VIEW + " WHERE (LOWER(e.title) LIKE :pattern OR LOWER(e.location) LIKE :pattern " +
+            "OR LOWER(e.description) LIKE :pattern) AND " + ACCESSIBLE_BY_USER + KEYSET_ORDER)
+    List<EventResponseDTO> searchAccessibleEventViews(@Param("pattern") String pattern,
+                                                      @Param("userId") Long userId,
+                                                      Pageable pageable);
+
+    @Query(RESPONSE_VIEW + " WHERE LOWER(e.location) LIKE :pattern AND " + ACCESSIBLE_BY_USER + KEYSET_ORDER)
+    List<EventResponseDTO> findAccessibleEventViewsByLocation(@Param("pattern") String pattern,
+                                                              @Param("userId") Long userId);
+
+    // Which of the given events the user is invited to (access filter for search hits)
+    @Query("SELECT e.id FROM Event e JOIN e.invitedUsers u WHERE u.id = :userId AND e.id IN :eventIds")
+    List<Long> findInvitedEventIdsAmong(@Param("userId") Long userId, @Param("eventIds") Collection<Long> eventIds);
+
+    // Search index load, keyset by ID: [id, title, description, location, eventType, organizerId]
+    @Query("SELECT e.id, e.title, e.description, e.location, e.eventType, e.organizer.id FROM Event e " +
+            "WHERE e.id > :afterId ORDER BY e.id ASC")
+    List<Object[]> findSearchRowsAfter(@Param("afterId") Long afterId, Pageable limit);
+
+    // Conflict index load, upcoming events keyset by ID:
+    // [id, title, location, eventDate, startTime, endTime, eventType, organizerId]
+    @Query("SELECT e.id, e.title, e.location, e.eventDate, e.startTime, e.endTime, e.eventType, e.organizer.id " +
+            "FROM Event e WHERE e.eventDate >= :fromDate AND e.id > :afterId ORDER BY e.id ASC")
+    List<Object[]> findScheduleRowsAfter(@Param("fromDate") LocalDate fromDate, @Param("afterId") Long afterId,
+                                         Pageable limit);
+
+    // Venue check under the write transaction: events of the day overlapping the slot (events never cross midnight),
+    // locked until commit so they cannot be moved meanwhile; the caller compares venues
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.eventDate = :date AND e.startTime < :endTime AND e.endTime > :startTime " +
+            "AND (:excludeId IS NULL OR e.id <> :excludeId) ORDER BY e.startTime ASC, e.id ASC")
+    List<Event> findOverlappingEventsForUpdate(@Param("date") LocalDate date,
+                                               @Param("startTime") LocalTime startTime,
+                                               @Param("endTime") LocalTime endTime,
+                                               @Param("excludeId") Long excludeId);
+
+    // Invitations of a batch of events: [eventId, userId]
+    @Query("SELECT e.id, u.id FROM Event e JOIN e.invitedUsers u WHERE e.id IN :eventIds")
+    List<Object[]> findInvitationPairs(@Param("eventIds") Collection<Long> eventIds);
+
+    // Free/busy: every event the users organize or are invited to in the date window, in one round trip
+    // [userId, eventDate, startTime, endTime]
+    @Query("SELECT e.organizer.id, e.eventDate, e.startTime, e.endTime FROM Event e " +
+            "WHERE e.organizer.id IN :userIds AND e.eventDate BETWEEN :fromDate AND :toDate " +
+            "UNION ALL " +
+            "SELECT u.id, e.eventDate, e.startTime, e.endTime FROM Event e JOIN e.invitedUsers u " +
+            "WHERE u.id IN :userIds AND e.eventDate BETWEEN :fromDate AND :toDate")
+    List<Object[]> findBusyRows(@Param("userIds") Collection<Long> userIds,
+                                @Param("fromDate") LocalDate fromDate,
+                                @Param("toDate") LocalDate toDate);
+
+    // ========== COUNTS FOR FEED TOTALS ==========
+
+    long countByEventType(EventType eventType);
+
+    long countByEventDateBefore(LocalDate date);
+
+    long countByEventDate(LocalDate date);
+
+    long countByOrganizerId(Long organizerId);
+
+    @Query("SELECT COUNT(e) FROM Event e WHERE EXISTS (SELECT iu.id FROM e.invitedUsers iu WHERE iu.id = :userId)")
+    long countInvitedEvents(@Param("userId") Long userId);
+
+    // ========== MATERIALIZED UPCOMING FEED ==========
+
+    // Keyset predicate on the feed row, which carries copies of the event's (eventDate, startTime)
+    String FEED_AFTER_CURSOR = "(f.eventDate > :cursorDate OR (f.eventDate = :cursorDate AND " +
+            "(f.startTime > :cursorTime OR (f.startTime = :cursorTime AND f.eventId > :cursorId))))";
+
+    // The user's PRIVATE events: one ordered range scan of idx_user_event_feed_user_date, events joined by primary key
+    @Query(RESPONSE_VIEW + " JOIN UserEventFeedEntry f ON f.eventId = e.id " +
+            "WHERE f.userId = :userId AND f.eventDate >= :fromDate AND " + FEED_AFTER_CURSOR +
+            " ORDER BY f.eventDate ASC, f.startTime ASC, f.eventId ASC")
+    List<EventResponseDTO> findFeedEventsAfter(@Param("userId") Long userId,
+                                               @Param("fromDate") LocalDate fromDate,
+                                               @Param("cursorDate") LocalDate cursorDate,
+                                               @Param("cursorTime") LocalTime cursorTime,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable limit);
+
+    // Shared half of every user's feed: one ordered range scan of idx_events_type_date
+    @Query(RESPONSE_VIEW + " WHERE e.eventType = 'PUBLIC' AND e.eventDate >= :fromDate AND " +
+            AFTER_CURSOR + KEYSET_ORDER)
+    List<EventResponseDTO> findUpcomingPublicEventsAfter(@Param("fromDate") LocalDate fromDate,
+                                                         @Param("cursorDate") LocalDate cursorDate,
+                                                         @Param("cursorTime") LocalTime cursorTime,
+                                                         @Param("cursorId") Long cursorId,
+                                                         Pageable limit);
+
+    @Query("SELECT COUNT(f) FROM UserEventFeedEntry f WHERE f.userId = :userId AND f.eventDate >= :fromDate")
+    long countFeedEvents(@Param("userId") Long userId, @Param("fromDate") LocalDate fromDate);
+
+    @Query("SELECT COUNT(e) FROM Event e WHERE e.eventType = 'PUBLIC' AND e.eventDate >= :fromDate")
+    long countUpcomingPublicEvents(@Param("fromDate") LocalDate fromDate);
+
+    // ========== DELTA SYNC ==========
+
+    // Accessible events changed strictly after the (updatedAt, id) watermark, up to the settle horizon
+    @Query(RESPONSE_VIEW + " WHERE (e.updatedAt > :afterUpdatedAt OR (e.updatedAt = :afterUpdatedAt AND e.id > :afterId)) " +
+            "AND e.updatedAt <= :until AND " + ACCESSIBLE_BY_USER + " ORDER BY e.updatedAt ASC, e.id ASC")
+    List<EventResponseDTO> findChangedEventsAfter(@Param("userId") Long userId,
+                                                  @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+                                                  @Param("afterId") Long afterId,
+                                                  @Param("until") LocalDateTime until,
+                                                  Pageable limit);
+
+    // ========== VERSION PROBES (CONDITIONAL REQUESTS) ==========
+
+    // Single event, without loading it:
+    // [version, organizerId, organizerUsername, organizerFullName, organizerEmail, accessible]
+    @Query("SELECT e.version, o.id, o.username, o.fullName, o.email, " +
+            "CASE WHEN " + ACCESSIBLE_BY_USER + " THEN true ELSE false END " +
+            "FROM Event e JOIN e.organizer o WHERE e.id = :eventId")
+    List<Object[]> findVersionRow(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    // Listing stamps, the columns a listing row shows that can change:
+    // [id, version, organizerUsername, organizerFullName, organizerEmail] (invitee count changes bump the version)
+    String STAMP_VIEW = "SELECT e.id, e.version, o.username, o.fullName, o.email FROM Event e JOIN e.organizer o";
+
+    // Stamps of a page whose IDs came from the access filter (caller restores the order)
+    @Query(STAMP_VIEW + " WHERE e.id IN :ids")
+    List<Object[]> findEventStampsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(STAMP_VIEW + " WHERE o.id = :userId" + KEYSET_ORDER)
+    List<Object[]> findOrganizedEventStamps(@Param("userId") Long userId);
+
+    @Query(STAMP_VIEW + " WHERE EXISTS (SELECT iu.id FROM e.invitedUsers iu WHERE iu.id = :userId)" + KEYSET_ORDER)
+    List<Object[]> findInvitedEventStamps(@Param("userId") Long userId);
+
+    // Current invitee IDs straight from event_invitations (no User rows are loaded)
+    @Query(value = "SELECT user_id FROM event_invitations WHERE event_id = :eventId", nativeQuery = true)
+    List<Long> findInvitedUserIds(@Param("eventId") Long eventId);
+
+    // Add a batch of invitations in a single statement (existing ones are skipped)
+    @Modifying
+    @Query(value = "INSERT INTO event_invitations (event_id, user_id) " +
+            "SELECT :eventId, u.id FROM users u WHERE u.id IN (:userIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM event_invitations ei WHERE ei.event_id = :eventId AND ei.user_id = u.id)",
+            nativeQuery = true)
+    int insertInvitations(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
+
+    // Remove a batch of invitations in a single statement
+    @Modifying
+    @Query(value = "DELETE FROM event_invitations WHERE event_id = :eventId AND user_id IN (:userIds)", nativeQuery = true)
+    int deleteInvitations(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM event_invitations WHERE event_id = :eventId", nativeQuery = true)
+    int deleteAllInvitations(@Param("eventId") Long eventId);
 }
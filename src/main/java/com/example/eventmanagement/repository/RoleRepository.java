@@ -2,8 +2,10 @@ package com.example.eventmanagement.repository;
 
 import com.example.eventmanagement.model.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +16,8 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
 
     // Check if role exists by name
     boolean existsByName(String name);
+
+    // Role columns shown in user responses (roles carry no timestamp): [id, name, description]
+    @Query("SELECT r.id, r.name, r.description FROM Role r ORDER BY r.id")
+    List<Object[]> findSummaryRows();
 }
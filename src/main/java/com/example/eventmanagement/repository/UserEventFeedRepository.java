@@ -0,0 +1,72 @@
+package com.example.eventmanagement.repository;
+
+import com.example.eventmanagement.model.UserEventFeedEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+
+/**
+ * Writes to the materialized upcoming-events feed (reads join it in EventRepository)
+ * Rows are copied from events / event_invitations with INSERT ... SELECT, so each write is one statement
+ * and always matches what was flushed in the same transaction
+ */
+@Repository
+public interface UserEventFeedRepository extends JpaRepository<UserEventFeedEntry, UserEventFeedEntry.Key> {
+
+    // Organizer and invitee rows of PRIVATE events (organizers can never be invited, so the two halves are disjoint)
+    String MEMBERSHIP_ROWS = "SELECT e.organizer_id, e.id, e.event_date, e.start_time FROM events e " +
+            "WHERE e.event_type = 'PRIVATE' AND e.id IN (:eventIds) " +
+            "UNION ALL " +
+            "SELECT ei.user_id, e.id, e.event_date, e.start_time FROM events e " +
+            "JOIN event_invitations ei ON ei.event_id = e.id " +
+            "WHERE e.event_type = 'PRIVATE' AND e.id IN (:eventIds)";
+
+    @Modifying
+    @Query(value = "INSERT INTO user_event_feed (user_id, event_id, event_date, start_time) " + MEMBERSHIP_ROWS,
+            nativeQuery = true)
+    int insertForEvents(@Param("eventIds") Collection<Long> eventIds);
+
+    // Rows for newly invited users (re-invites already have one)
+    @Modifying
+    @Query(value = "INSERT INTO user_event_feed (user_id, event_id, event_date, start_time) " +
+            "SELECT ei.user_id, e.id, e.event_date, e.start_time FROM events e " +
+            "JOIN event_invitations ei ON ei.event_id = e.id " +
+            "WHERE e.id = :eventId AND e.event_type = 'PRIVATE' AND ei.user_id IN (:userIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM user_event_feed f WHERE f.user_id = ei.user_id AND f.event_id = e.id)",
+            nativeQuery = true)
+    int insertForInvitees(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
+
+    // Rescheduled PRIVATE event: move its existing rows instead of rewriting them
+    @Modifying
+    @Query(value = "UPDATE user_event_feed SET event_date = :eventDate, start_time = :startTime WHERE event_id = :eventId",
+            nativeQuery = true)
+    int updateSchedule(@Param("eventId") Long eventId,
+                       @Param("eventDate") LocalDate eventDate,
+                       @Param("startTime") LocalTime startTime);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_event_feed WHERE event_id IN (:eventIds)", nativeQuery = true)
+    int deleteForEvents(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_event_feed WHERE event_id = :eventId AND user_id IN (:userIds)", nativeQuery = true)
+    int deleteForInvitees(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
+
+    // Startup backfill: rows for every PRIVATE event (only run while the table is empty)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO user_event_feed (user_id, event_id, event_date, start_time) " +
+            "SELECT e.organizer_id, e.id, e.event_date, e.start_time FROM events e WHERE e.event_type = 'PRIVATE' " +
+            "UNION ALL " +
+            "SELECT ei.user_id, e.id, e.event_date, e.start_time FROM events e " +
+            "JOIN event_invitations ei ON ei.event_id = e.id WHERE e.event_type = 'PRIVATE'",
+            nativeQuery = true)
+    int insertForAllPrivateEvents();
+}
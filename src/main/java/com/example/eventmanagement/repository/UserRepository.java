@@ -2,8 +2,11 @@ package com.example.eventmanagement.repository;
 
 import com.example.eventmanagement.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +30,28 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // Find user by username or email (for login)
     Optional<User> findByUsernameOrEmail(String username, String email);
+
+    // Find IDs of users holding a role (for token revocation)
+    @Query("SELECT u.id FROM User u WHERE u.role.id = :roleId")
+    List<Long> findIdsByRoleId(@Param("roleId") Long roleId);
+
+    // Find IDs of users whose role grants a permission (for token revocation)
+    @Query("SELECT u.id FROM User u JOIN u.role.permissions p WHERE p.id = :permissionId")
+    List<Long> findIdsByPermissionId(@Param("permissionId") Long permissionId);
+
+    // Load a batch of users with their role in one query (for invitations)
+    @Query("SELECT u FROM User u JOIN FETCH u.role WHERE u.id IN :ids")
+    List<User> findAllWithRoleByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Which of the given IDs exist, without loading the users
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Version probe for conditional GETs: [updatedAt, roleId, roleName, roleDescription]
+    @Query("SELECT u.updatedAt, r.id, r.name, r.description FROM User u LEFT JOIN u.role r WHERE u.id = :id")
+    List<Object[]> findVersionRow(@Param("id") Long id);
+
+    // Listing aggregate, one row: [count, latestUpdatedAt]
+    @Query("SELECT COUNT(u), MAX(u.updatedAt) FROM User u")
+    List<Object[]> findUsersVersion();
 }
@@ -0,0 +1,317 @@
+package com.example.eventmanagement.schedule;
+
+import com.example.eventmanagement.enums.EventChangeType;
+import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.event.EventChangedEvent;
+import com.example.eventmanagement.repository.EventRepository;
+import com.example.eventmanagement.util.ApplicationLogger;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory interval index of upcoming bookings, per venue and per participant (organizer + invitees)
+ * Intervals are keyed by start minute in a sorted map; events never cross midnight, so anything
+ * overlapping a slot starts less than one day before it and an overlap query is one bounded range scan
+ * Loaded from today onwards at startup and kept current from EventChangedEvent after each commit
+ * Only this instance's commits reach it, so its answers are advisory (conflict reports, WARN policy);
+ * REJECT is decided by the database under the write transaction
+ */
+@Component
+public class EventIntervalIndex {
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final EventRepository eventRepository;
+    private final MeterRegistry meterRegistry;
+    private final Logger logger;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // venue key -> start minute -> bookings starting then
+    private final Map<String, NavigableMap<Long, List<Booking>>> byVenue = new HashMap<>();
+
+    // user id -> start minute -> bookings the user organizes or is invited to
+    private final Map<Long, NavigableMap<Long, List<Booking>>> byUser = new HashMap<>();
+
+    private final Map<Long, Booking> byEvent = new HashMap<>();
+
+    @Autowired
+    public EventIntervalIndex(EventRepository eventRepository,
+                              MeterRegistry meterRegistry,
+                              ApplicationLogger applicationLogger) {
+        this.eventRepository = eventRepository;
+        this.meterRegistry = meterRegistry;
+        this.logger = applicationLogger.getLogger(EventIntervalIndex.class);
+    }
+
+    @PostConstruct
+    void load() {
+        Gauge.builder("events.schedule.index.bookings", this, EventIntervalIndex::size)
+                .description("Upcoming events held in the conflict index")
+                .register(meterRegistry);
+
+        long started = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        long lastId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = eventRepository.findScheduleRowsAfter(today, lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            Map<Long, Booking> batch = new LinkedHashMap<>();
+            for (Object[] row : rows) {
+                Booking booking = new Booking((Long) row[0], (String) row[1], (String) row[2], (LocalDate) row[3],
+                        (LocalTime) row[4], (LocalTime) row[5], (EventType) row[6], (Long) row[7]);
+                batch.put(booking.eventId, booking);
+                lastId = booking.eventId;
+            }
+            for (Object[] pair : eventRepository.findInvitationPairs(batch.keySet())) {
+                batch.get((Long) pair[0]).participantIds.add((Long) pair[1]);
+            }
+
+            lock.writeLock().lock();
+            try {
+                batch.values().forEach(this::put);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } while (rows.size() == LOAD_BATCH_SIZE);
+
+        logger.info("Event conflict index loaded: {} upcoming events, {} ms", size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // Apply committed changes (fallbackExecution covers writes made outside a transaction)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        lock.writeLock().lock();
+        try {
+            remove(change.getEventId());
+            if (change.getChangeType() != EventChangeType.DELETED) {
+                Booking booking = new Booking(change.getEventId(), change.getTitle(), change.getLocation(),
+                        change.getEventDate(), change.getStartTime(), change.getEndTime(),
+                        change.getEventType(), change.getOrganizerId());
+                booking.participantIds.addAll(change.getInvitedUserIds());
+                put(booking);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Bookings at the same venue overlapping the slot (touching end/start times do not overlap)
+     */
+    public List<Booking> findVenueConflicts(String location, LocalDate date, LocalTime startTime, LocalTime endTime,
+                                            Long excludeEventId) {
+        lock.readLock().lock();
+        try {
+            return overlapping(byVenue.get(venueKey(location)), minuteOf(date, startTime), minuteOf(date, endTime),
+                    excludeEventId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Per user, bookings they organize or are invited to that overlap the slot
+     * Users without conflicts are left out of the result
+     */
+    public Map<Long, List<Booking>> findParticipantConflicts(Collection<Long> userIds, LocalDate date,
+                                                             LocalTime startTime, LocalTime endTime,
+                                                             Long excludeEventId) {
+        long from = minuteOf(date, startTime);
+        long to = minuteOf(date, endTime);
+
+        lock.readLock().lock();
+        try {
+            Map<Long, List<Booking>> conflicts = new LinkedHashMap<>();
+            for (Long userId : userIds) {
+                List<Booking> clashes = overlapping(byUser.get(userId), from, to, excludeEventId);
+                if (!clashes.isEmpty()) {
+                    conflicts.put(userId, clashes);
+                }
+            }
+            return conflicts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byEvent.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== INTERNALS (callers hold the lock) ==========
+
+    private List<Booking> overlapping(NavigableMap<Long, List<Booking>> timeline, long from, long to, Long excludeEventId) {
+        if (timeline == null) {
+            return List.of();
+        }
+
+        List<Booking> result = new ArrayList<>();
+        for (List<Booking> bookings : timeline.subMap(from - MINUTES_PER_DAY, false, to, false).values()) {
+            for (Booking booking : bookings) {
+                if (booking.to > from && !booking.eventId.equals(excludeEventId)) {
+                    result.add(booking);
+                }
+            }
+        }
+        result.sort(Comparator.comparingLong((Booking booking) -> booking.from).thenComparing(Booking::getEventId));
+        return result;
+    }
+
+    private void put(Booking booking) {
+        byEvent.put(booking.eventId, booking);
+        add(byVenue.computeIfAbsent(booking.venueKey, key -> new TreeMap<>()), booking);
+        for (Long userId : booking.participantIds) {
+            add(byUser.computeIfAbsent(userId, key -> new TreeMap<>()), booking);
+        }
+    }
+
+    private void remove(Long eventId) {
+        Booking booking = byEvent.remove(eventId);
+        if (booking == null) {
+            return;
+        }
+        if (drop(byVenue.get(booking.venueKey), booking)) {
+            byVenue.remove(booking.venueKey);
+        }
+        for (Long userId : booking.participantIds) {
+            if (drop(byUser.get(userId), booking)) {
+                byUser.remove(userId);
+            }
+        }
+    }
+
+    private static void add(NavigableMap<Long, List<Booking>> timeline, Booking booking) {
+        timeline.computeIfAbsent(booking.from, key -> new ArrayList<>(1)).add(booking);
+    }
+
+    // Returns true when the timeline is left empty
+    private static boolean drop(NavigableMap<Long, List<Booking>> timeline, Booking booking) {
+        if (timeline == null) {
+            return false;
+        }
+        List<Booking> bookings = timeline.get(booking.from);
+        if (bookings != null) {
+            bookings.removeIf(existing -> existing.eventId.equals(booking.eventId));
+            if (bookings.isEmpty()) {
+                timeline.remove(booking.from);
+            }
+        }
+        return timeline.isEmpty();
+    }
+
+    private static long minuteOf(LocalDate date, LocalTime time) {
+        return date.toEpochDay() * MINUTES_PER_DAY + time.getHour() * 60L + time.getMinute();
+    }
+
+    // Same venue regardless of case and spacing ("Dhaka  Hall" == "dhaka hall")
+    public static String venueKey(String location) {
+        return location == null ? "" : location.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * One indexed event: its time slot, venue and participants
+     */
+    public static final class Booking {
+        private final Long eventId;
+        private final String title;
+        private final String location;
+        private final LocalDate eventDate;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+        private final EventType eventType;
+        private final Long organizerId;
+        private final String venueKey;
+        private final long from;
+        private final long to;
+        private final Set<Long> participantIds = new HashSet<>();
+
+        private Booking(Long eventId, String title, String location, LocalDate eventDate,
+                        LocalTime startTime, LocalTime endTime, EventType eventType, Long organizerId) {
+            this.eventId = eventId;
+            this.title = title;
+            this.location = location;
+            this.eventDate = eventDate;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.eventType = eventType;
+            this.organizerId = organizerId;
+            this.venueKey = venueKey(location);
+            this.from = minuteOf(eventDate, startTime);
+            this.to = minuteOf(eventDate, endTime);
+            if (organizerId != null) {
+                participantIds.add(organizerId);
+            }
+        }
+
+        public Long getEventId() {
+            return eventId;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public LocalDate getEventDate() {
+            return eventDate;
+        }
+
+        public LocalTime getStartTime() {
+            return startTime;
+        }
+
+        public LocalTime getEndTime() {
+            return endTime;
+        }
+
+        public EventType getEventType() {
+            return eventType;
+        }
+
+        public Long getOrganizerId() {
+            return organizerId;
+        }
+
+        // Whether the user organizes or is invited to this event
+        public boolean involves(Long userId) {
+            return participantIds.contains(userId);
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.example.eventmanagement.search;
+
+import com.example.eventmanagement.enums.EventChangeType;
+import com.example.eventmanagement.enums.EventSearchField;
+import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.event.EventChangedEvent;
+import com.example.eventmanagement.repository.EventRepository;
+import com.example.eventmanagement.util.ApplicationLogger;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over event title, location and description
+ * Terms are case-folded and accent-stripped; query tokens also match as prefixes (search-as-you-type)
+ * Loaded from the database at startup and kept current from EventChangedEvent after each commit
+ * Hits are ranked by field weight x idf, exact term matches counting double a prefix match
+ * Only this instance's commits reach it: callers re-check hits against the loaded rows (see matches)
+ * When disabled nothing is loaded and searches go to the database
+ */
+@Component
+public class EventSearchIndex {
+
+    // Tokens shorter than this only match exactly (a one-letter prefix would expand to most of the dictionary)
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final EventRepository eventRepository;
+    private final MeterRegistry meterRegistry;
+    private final Logger logger;
+
+    @Value("${event-search-index.enabled:true}")
+    private boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // field -> term -> eventId -> occurrences
+    private final Map<EventSearchField, NavigableMap<String, Map<Long, Integer>>> postings = new EnumMap<>(EventSearchField.class);
+
+    // eventId -> indexed document (needed for removal and access filtering)
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    private Timer searchTimer;
+
+    @Autowired
+    public EventSearchIndex(EventRepository eventRepository,
+                            MeterRegistry meterRegistry,
+                            ApplicationLogger applicationLogger) {
+        this.eventRepository = eventRepository;
+        this.meterRegistry = meterRegistry;
+        this.logger = applicationLogger.getLogger(EventSearchIndex.class);
+        for (EventSearchField field : EventSearchField.values()) {
+            postings.put(field, new TreeMap<>());
+        }
+    }
+
+    @PostConstruct
+    void load() {
+        if (!enabled) {
+            logger.info("Event search index disabled - searches use the database");
+            return;
+        }
+
+        Gauge.builder("events.search.index.documents", this, EventSearchIndex::size)
+                .description("Events held in the search index")
+                .register(meterRegistry);
+        this.searchTimer = Timer.builder("events.search")
+                .description("Time taken to resolve a search query against the index")
+                .register(meterRegistry);
+
+        long started = System.nanoTime();
+        long lastId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = eventRepository.findSearchRowsAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : rows) {
+                    Long id = (Long) row[0];
+                    put(new Document(id, (String) row[1], (String) row[2], (String) row[3], (EventType) row[4], (Long) row[5]));
+                    lastId = id;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } while (rows.size() == LOAD_BATCH_SIZE);
+
+        logger.info("Event search index loaded: {} events, {} ms", size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // Apply committed changes (fallbackExecution covers writes made outside a transaction)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            remove(change.getEventId());
+            if (change.getChangeType() != EventChangeType.DELETED) {
+                put(new Document(change.getEventId(), change.getTitle(), change.getDescription(), change.getLocation(),
+                        change.getEventType(), change.getOrganizerId()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find events matching every token of the query in any of the given fields
+     * Returns hits ordered by score (best first), ties broken by event ID
+     */
+    public List<Hit> search(String query, Set<EventSearchField> fields) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        return searchTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                Map<Long, Double> scores = null;
+                for (String token : tokens) {
+                    Map<Long, Double> tokenScores = scoreToken(token, fields);
+                    // AND semantics: keep only events matched by every token so far
+                    if (scores == null) {
+                        scores = tokenScores;
+                    } else {
+                        Map<Long, Double> matched = new HashMap<>();
+                        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                            Double score = tokenScores.get(entry.getKey());
+                            if (score != null) {
+                                matched.put(entry.getKey(), entry.getValue() + score);
+                            }
+                        }
+                        scores = matched;
+                    }
+                    if (scores.isEmpty()) {
+                        return List.<Hit>of();
+                    }
+                }
+
+                List<Hit> hits = new ArrayList<>(scores.size());
+                for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                    Document document = documents.get(entry.getKey());
+                    hits.add(new Hit(document.id, entry.getValue(), document.eventType, document.organizerId));
+                }
+                hits.sort(Comparator.comparingDouble(Hit::getScore).reversed().thenComparing(Hit::getEventId));
+                return hits;
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether every token of the query matches a word of the given texts, by the same rules as search
+     * Used to drop hits whose row changed since it was indexed
+     */
+    public static boolean matches(String query, Collection<String> texts) {
+        List<String> words = new ArrayList<>();
+        texts.forEach(text -> words.addAll(tokenize(text)));
+        for (String token : tokenize(query)) {
+            boolean found = words.stream().anyMatch(word -> token.length() >= MIN_PREFIX_LENGTH
+                    ? word.startsWith(token)
+                    : word.equals(token));
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== INTERNALS (callers hold the lock) ==========
+
+    private Map<Long, Double> scoreToken(String token, Set<EventSearchField> fields) {
+        Map<Long, Double> scores = new HashMap<>();
+        double total = Math.max(documents.size(), 1);
+
+        for (EventSearchField field : fields) {
+            NavigableMap<String, Map<Long, Integer>> terms = postings.get(field);
+            NavigableMap<String, Map<Long, Integer>> candidates = token.length() >= MIN_PREFIX_LENGTH
+                    ? terms.subMap(token, true, token + Character.MAX_VALUE, false)
+                    : terms.subMap(token, true, token, true);
+
+            for (Map.Entry<String, Map<Long, Integer>> term : candidates.entrySet()) {
+                Map<Long, Integer> docs = term.getValue();
+                double idf = Math.log(1 + total / docs.size());
+                double exactness = term.getKey().length() == token.length() ? 1.0 : 0.5;
+                double weight = field.getWeight() * idf * exactness;
+                for (Map.Entry<Long, Integer> doc : docs.entrySet()) {
+                    // Dampen repeated occurrences so long descriptions do not dominate
+                    scores.merge(doc.getKey(), weight * (1 + Math.log(doc.getValue())), Double::sum);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private void put(Document document) {
+        documents.put(document.id, document);
+        index(EventSearchField.TITLE, document.id, document.title);
+        index(EventSearchField.LOCATION, document.id, document.location);
+        index(EventSearchField.DESCRIPTION, document.id, document.description);
+    }
+
+    private void remove(Long eventId) {
+        Document document = documents.remove(eventId);
+        if (document == null) {
+            return;
+        }
+        unindex(EventSearchField.TITLE, eventId, document.title);
+        unindex(EventSearchField.LOCATION, eventId, document.location);
+        unindex(EventSearchField.DESCRIPTION, eventId, document.description);
+    }
+
+    private void index(EventSearchField field, Long eventId, String text) {
+        NavigableMap<String, Map<Long, Integer>> terms = postings.get(field);
+        for (String token : tokenize(text)) {
+            terms.computeIfAbsent(token, t -> new HashMap<>()).merge(eventId, 1, Integer::sum);
+        }
+    }
+
+    private void unindex(EventSearchField field, Long eventId, String text) {
+        NavigableMap<String, Map<Long, Integer>> terms = postings.get(field);
+        for (String token : tokenize(text)) {
+            Map<Long, Integer> docs = terms.get(token);
+            if (docs != null) {
+                docs.remove(eventId);
+                if (docs.isEmpty()) {
+                    terms.remove(token);
+                }
+            }
+        }
+    }
+
+    // Lower-case, strip accents and split on anything that is not a letter or digit
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Document {
+        private final Long id;
+        private final String title;
+        private final String description;
+        private final String location;
+        private final EventType eventType;
+        private final Long organizerId;
+
+        private Document(Long id, String title, String description, String location,
+                         EventType eventType, Long organizerId) {
+            this.id = id;
+            this.title = title;
+            this.description = description;
+            this.location = location;
+            this.eventType = eventType;
+            this.organizerId = organizerId;
+        }
+    }
+
+    /**
+     * One ranked search result, with the fields needed to filter by access without a query
+     */
+    public static final class Hit {
+        private final Long eventId;
+        private final double score;
+        private final EventType eventType;
+        private final Long organizerId;
+
+        private Hit(Long eventId, double score, EventType eventType, Long organizerId) {
+            this.eventId = eventId;
+            this.score = score;
+            this.eventType = eventType;
+            this.organizerId = organizerId;
+        }
+
+        public Long getEventId() {
+            return eventId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public EventType getEventType() {
+            return eventType;
+        }
+
+        public Long getOrganizerId() {
+            return organizerId;
+        }
+    }
+}
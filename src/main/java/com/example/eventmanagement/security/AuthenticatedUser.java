@@ -0,0 +1,34 @@
+package com.example.eventmanagement.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * Spring Security principal that also carries the user's ID and role name
+ * Lets services identify the current user without querying the users table again
+ */
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User {
+
+    private final Long id;
+    private final String roleName;
+
+    public AuthenticatedUser(Long id,
+                             String username,
+                             String password,
+                             boolean enabled,
+                             String roleName,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, enabled, true, true, true, authorities);
+        this.id = id;
+        this.roleName = roleName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getRoleName() {
+        return roleName;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.eventmanagement.security;
+
+import com.example.eventmanagement.model.User;
+import com.example.eventmanagement.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Resolves the current user from the Authentication set by JwtAuthenticationFilter
+ * The principal already carries the user ID, so most callers need no query at all
+ * Each lookup answered from the principal is counted per endpoint
+ */
+@Component
+public class CurrentUserProvider {
+
+    static final String SAVED_LOOKUPS_METRIC = "auth.principal.lookups.saved";
+
+    // Request attribute holding the fully loaded user for the rest of the request
+    private static final String CURRENT_USER_ATTRIBUTE = CurrentUserProvider.class.getName() + ".currentUser";
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public CurrentUserProvider(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Username of the authenticated user
+     */
+    public String getCurrentUsername() {
+        return getAuthentication().getName();
+    }
+
+    /**
+     * ID of the authenticated user - no query
+     */
+    public Long getCurrentUserId() {
+        AuthenticatedUser principal = getPrincipal();
+        if (principal != null) {
+            recordSavedLookup();
+            return principal.getId();
+        }
+        return loadByUsername().getId();
+    }
+
+    /**
+     * Lazy reference to the authenticated user - no query unless a non-ID field is read
+     * Use for ownership checks and for setting relations such as the event organizer
+     */
+    public User getCurrentUserReference() {
+        AuthenticatedUser principal = getPrincipal();
+        if (principal != null) {
+            recordSavedLookup();
+            return userRepository.getReferenceById(principal.getId());
+        }
+        return loadByUsername();
+    }
+
+    /**
+     * Fully loaded authenticated user
+     * Loaded by primary key once per request, later calls reuse it
+     */
+    public User getCurrentUser() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Object cached = attributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof User user) {
+                recordSavedLookup();
+                return user;
+            }
+        }
+
+        AuthenticatedUser principal = getPrincipal();
+        User user = principal != null
+                ? userRepository.findById(principal.getId())
+                        .orElseThrow(() -> new NoSuchElementException("Current user not found"))
+                : loadByUsername();
+
+        if (attributes != null) {
+            attributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    private Authentication getAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new SecurityException("No authenticated user");
+        }
+        return authentication;
+    }
+
+    private AuthenticatedUser getPrincipal() {
+        Object principal = getAuthentication().getPrincipal();
+        return principal instanceof AuthenticatedUser authenticatedUser ? authenticatedUser : null;
+    }
+
+    // Fallback for principals that were not created by CustomUserDetailsService
+    private User loadByUsername() {
+        return userRepository.findByUsername(getCurrentUsername())
+                .orElseThrow(() -> new NoSuchElementException("Current user not found"));
+    }
+
+    private void recordSavedLookup() {
+        meterRegistry.counter(SAVED_LOOKUPS_METRIC, "endpoint", currentEndpoint()).increment();
+    }
+
+    // Tag by route pattern (e.g. GET /events/{id}) to keep metric cardinality bounded
+    private String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return "none";
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (pattern == null) {
+            return "unknown";
+        }
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getMethod() + " " + pattern;
+        }
+        return pattern.toString();
+    }
+}
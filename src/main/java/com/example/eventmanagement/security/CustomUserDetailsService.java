@@ -1,5 +1,6 @@
 package com.example.eventmanagement.security;
 
+import com.example.eventmanagement.cache.EntityCache;
 import com.example.eventmanagement.model.Permission;
 import com.example.eventmanagement.model.User;
 import com.example.eventmanagement.repository.UserRepository;
@@ -19,14 +20,21 @@ import java.util.List;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final EntityCache entityCache;
 
     @Autowired
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, EntityCache entityCache) {
         this.userRepository = userRepository;
+        this.entityCache = entityCache;
     }
 
+    // Served from the principal cache; user, role and permission writes evict it
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return entityCache.getPrincipal(username, this::loadPrincipal);
+    }
+
+    private AuthenticatedUser loadPrincipal(String username) {
         // Find user in database
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
@@ -36,14 +44,13 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw new RuntimeException("User account is deactivated");
         }
 
-        // Convert to Spring Security UserDetails
-        return new org.springframework.security.core.userdetails.User(
+        // Convert to Spring Security UserDetails (carrying ID and role for CurrentUserProvider)
+        return new AuthenticatedUser(
+                user.getId(),
                 user.getUsername(),
                 user.getPassword(),
                 user.getActive(),
-                true, // accountNonExpired
-                true, // credentialsNonExpired
-                true, // accountNonLocked
+                user.getRole().getName(),
                 getAuthorities(user)
         );
     }
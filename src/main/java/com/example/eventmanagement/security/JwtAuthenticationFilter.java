@@ -1,5 +1,6 @@
 package com.example.eventmanagement.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,11 +20,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenDenyList tokenDenyList;
 
     @Autowired
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil,
+                                   CustomUserDetailsService userDetailsService,
+                                   TokenDenyList tokenDenyList) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.tokenDenyList = tokenDenyList;
     }
 
     @Override
@@ -36,13 +41,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String username = null;
         String jwt = null;
+        Claims claims = null;
 
         // Check if Authorization header exists and starts with "Bearer "
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7); // Remove "Bearer " prefix
 
             try {
-                username = jwtUtil.extractUsername(jwt);
+                claims = jwtUtil.extractAllClaims(jwt);
+                username = claims.getSubject();
             } catch (Exception e) {
                 // Invalid token - will be handled by returning 403
                 logger.error("JWT Token extraction failed: " + e.getMessage());
@@ -52,11 +59,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // If username extracted and no authentication exists in context
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
+            // Stateless mode: trust the verified claims, no database access
+            // Falls back to loading the user for tokens issued without the user ID claim
+            UserDetails userDetails = null;
+            boolean statelessPrincipal = false;
+            if (jwtUtil.isStateless()) {
+                AuthenticatedUser principal = jwtUtil.buildPrincipal(claims);
+                if (principal != null) {
+                    if (tokenDenyList.isRevoked(principal.getId(), jwtUtil.getIssuedAtMillis(claims))) {
+                        logger.debug("Rejected revoked JWT for user: " + username);
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
+                    userDetails = principal;
+                    statelessPrincipal = true;
+                }
+            }
+
             // Load user details from database
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            if (userDetails == null) {
+                userDetails = this.userDetailsService.loadUserByUsername(username);
+            }
 
-            // Validate token
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+            // Validate token against the claims parsed above (no second signature check)
+            if (statelessPrincipal || jwtUtil.validateToken(claims, userDetails)) {
 
                 // Create authentication token
                 UsernamePasswordAuthenticationToken authenticationToken =
@@ -1,17 +1,33 @@
 package com.example.eventmanagement.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
@@ -25,9 +41,71 @@ public class JwtUtil {
     @Value("${jwt.expiration:86400000}")
     private Long JWT_TOKEN_VALIDITY;
 
+    // Stateless mode: build the Authentication from token claims instead of loading the user
+    @Value("${jwt.stateless:false}")
+    private boolean stateless;
+
+    // Upper bound on cached verified tokens (roughly one per active session)
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    // Claim names for stateless authentication
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String AUTHORITIES_CLAIM = "authorities";
+
+    // Issue time in milliseconds - iat only keeps seconds, too coarse to order a login against a revocation
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iatms";
+
+    private final MeterRegistry meterRegistry;
+
+    // Built once - both are immutable and thread-safe
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    // Verified claims keyed by SHA-256 of the token, each entry expires with its token
+    private Cache<String, Claims> verifiedClaimsCache;
+
+    @Autowired
+    public JwtUtil(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedClaimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long millisLeft = claims.getExpiration() != null
+                                ? claims.getExpiration().getTime() - System.currentTimeMillis()
+                                : JWT_TOKEN_VALIDITY;
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(millisLeft, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaimsCache, "jwtClaims");
+    }
+
     // Get signing key
     private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        return signingKey;
     }
 
     // Extract username from token
@@ -46,31 +124,79 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    // Extract all claims from token
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // Extract all claims from token (verifies signature and expiration)
+    // A token is only HMAC-verified the first time it is seen, then served from the cache until it expires
+    public Claims extractAllClaims(String token) {
+        return verifiedClaimsCache.get(hashToken(token), key -> jwtParser.parseClaimsJws(token).getBody());
     }
 
     // Check if token is expired
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private Boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
+    }
+
+    // SHA-256 of the token - avoids keeping raw tokens in memory as cache keys
+    private String hashToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     // Generate token for user
+    // User ID and authorities are embedded so the token can be used in stateless mode
     public String generateToken(UserDetails userDetails, String role) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("role", role);
+        claims.put(ROLE_CLAIM, role);
+        if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+            claims.put(USER_ID_CLAIM, authenticatedUser.getId());
+        }
+        claims.put(AUTHORITIES_CLAIM, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
         return createToken(claims, userDetails.getUsername());
     }
 
+    // Build the principal from verified claims
+    // Returns null for tokens issued before user ID claims were added
+    public AuthenticatedUser buildPrincipal(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+        if (userId == null || authorities == null) {
+            return null;
+        }
+
+        List<GrantedAuthority> grantedAuthorities = authorities.stream()
+                .map(authority -> (GrantedAuthority) new SimpleGrantedAuthority(authority.toString()))
+                .toList();
+
+        return new AuthenticatedUser(
+                userId.longValue(),
+                claims.getSubject(),
+                "", // password is never needed once the token is verified
+                true,
+                claims.get(ROLE_CLAIM, String.class),
+                grantedAuthorities
+        );
+    }
+
+    // Issue time in epoch millis for deny-list checks
+    // Tokens issued without the millisecond claim fall back to iat (seconds); no issue time at all counts as oldest
+    public long getIssuedAtMillis(Claims claims) {
+        Number issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Number.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis.longValue();
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : Long.MIN_VALUE;
+    }
+
     // Create token with claims
     private String createToken(Map<String, Object> claims, String subject) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + JWT_TOKEN_VALIDITY);
+        claims.put(ISSUED_AT_MILLIS_CLAIM, now.getTime());
 
         return Jwts.builder()
                 .setClaims(claims)
@@ -83,8 +209,18 @@ public class JwtUtil {
 
     // Validate token
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateToken(extractAllClaims(token), userDetails);
+    }
+
+    // Validate already extracted claims against the loaded user
+    public Boolean validateToken(Claims claims, UserDetails userDetails) {
+        final String username = claims.getSubject();
+        return (username.equals(userDetails.getUsername()) && !isTokenExpired(claims));
+    }
+
+    // Whether the filter should trust token claims instead of loading the user
+    public boolean isStateless() {
+        return stateless;
     }
 
     // Get token validity duration
@@ -1,5 +1,6 @@
 package com.example.eventmanagement.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -48,6 +49,9 @@ public class SecurityConfig {
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
 
+                        // Async dispatches resume a request that was already authorized (event stream completion)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // All other endpoints require authentication
                         .anyRequest().authenticated()
                 )
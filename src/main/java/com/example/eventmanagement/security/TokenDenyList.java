@@ -0,0 +1,73 @@
+package com.example.eventmanagement.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory deny-list for stateless JWT authentication
+ * Stores the time each user's tokens were revoked - any token issued before that time is rejected
+ * Used when the user is deactivated, deleted, or their password, role or permissions change
+ */
+@Component
+public class TokenDenyList {
+
+    // Expired entries are swept at most this often, not on every revocation
+    private static final long PRUNE_INTERVAL_MILLIS = 60_000;
+
+    // User ID -> revocation time (epoch millis, compared with the token's millisecond issue time)
+    private final Map<Long, Long> revokedAt = new ConcurrentHashMap<>();
+
+    private final AtomicLong lastPrunedAt = new AtomicLong();
+
+    @Value("${jwt.expiration:86400000}")
+    private Long tokenValidity;
+
+    /**
+     * Revoke all tokens issued to the user so far
+     */
+    public void revokeUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        revokedAt.put(userId, now);
+        pruneExpired(now);
+    }
+
+    /**
+     * Revoke all tokens issued to the given users so far
+     */
+    public void revokeUsers(Collection<Long> userIds) {
+        long now = System.currentTimeMillis();
+        for (Long userId : userIds) {
+            if (userId != null) {
+                revokedAt.put(userId, now);
+            }
+        }
+        pruneExpired(now);
+    }
+
+    /**
+     * Check whether a token issued to the user at the given time (epoch millis) has been revoked - O(1)
+     * Strictly before: a token issued by a login right after the revocation stays valid
+     */
+    public boolean isRevoked(Long userId, long issuedAtMillis) {
+        Long revokedTime = revokedAt.get(userId);
+        return revokedTime != null && issuedAtMillis < revokedTime;
+    }
+
+    // Entries older than the token validity can no longer match a live token
+    private void pruneExpired(long nowMillis) {
+        long last = lastPrunedAt.get();
+        if (nowMillis - last < PRUNE_INTERVAL_MILLIS || !lastPrunedAt.compareAndSet(last, nowMillis)) {
+            return;
+        }
+        long cutoff = nowMillis - tokenValidity;
+        revokedAt.values().removeIf(time -> time < cutoff);
+    }
+}
@@ -18,11 +18,14 @@ import java.util.List;
 public class ActivityHistoryService {
 
     private final UserActivityHistoryRepository activityHistoryRepository;
+    private final ActivityHistoryWriter activityHistoryWriter;
     private final ObjectMapper objectMapper;
 
     @Autowired
-    public ActivityHistoryService(UserActivityHistoryRepository activityHistoryRepository) {
+    public ActivityHistoryService(UserActivityHistoryRepository activityHistoryRepository,
+                                  ActivityHistoryWriter activityHistoryWriter) {
         this.activityHistoryRepository = activityHistoryRepository;
+        this.activityHistoryWriter = activityHistoryWriter;
         this.objectMapper = new ObjectMapper();
     }
 
@@ -42,7 +45,7 @@ public class ActivityHistoryService {
         history.setCreatedBy(username);
         history.setIsActive(true);
 
-        activityHistoryRepository.save(history);
+        activityHistoryWriter.write(history);
     }
 
     // Method 2: Simple - auto-detect user from SecurityContext
@@ -91,7 +94,7 @@ public class ActivityHistoryService {
             history.setEntityName(entityName);
             history.setDescription(description);
 
-            activityHistoryRepository.save(history);
+            activityHistoryWriter.write(history);
         }
     }
 
@@ -139,7 +142,7 @@ public class ActivityHistoryService {
                 System.err.println("Error serializing values: " + e.getMessage());
             }
 
-            activityHistoryRepository.save(history);
+            activityHistoryWriter.write(history);
         }
     }
 
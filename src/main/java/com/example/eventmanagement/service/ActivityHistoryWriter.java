@@ -0,0 +1,220 @@
+package com.example.eventmanagement.service;
+
+import com.example.eventmanagement.enums.OverflowPolicy;
+import com.example.eventmanagement.model.UserActivityHistory;
+import com.example.eventmanagement.repository.UserActivityHistoryRepository;
+import com.example.eventmanagement.util.ApplicationLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes activity history off the request thread
+ * Records are queued after the business transaction commits and inserted in JDBC batches
+ * by a single background drainer, flushed when a batch fills up or the flush interval passes
+ * Batching relies on pooled ID allocation and hibernate.jdbc.batch_size
+ */
+@Component
+public class ActivityHistoryWriter {
+
+    private final UserActivityHistoryRepository activityHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationLogger applicationLogger;
+    private final Logger logger;
+
+    @Value("${activity-history.async.enabled:true}")
+    private boolean asyncEnabled;
+
+    @Value("${activity-history.async.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${activity-history.async.batch-size:200}")
+    private int batchSize;
+
+    @Value("${activity-history.async.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    @Value("${activity-history.async.overflow-policy:CALLER_RUNS}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${activity-history.async.offer-timeout-ms:100}")
+    private long offerTimeoutMs;
+
+    private final MeterRegistry meterRegistry;
+    private BlockingQueue<UserActivityHistory> queue;
+    private Thread drainer;
+    private volatile boolean running;
+
+    private Timer flushTimer;
+    private Counter droppedCounter;
+    private Counter failedCounter;
+    private Counter writtenCounter;
+
+    @Autowired
+    public ActivityHistoryWriter(UserActivityHistoryRepository activityHistoryRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 ApplicationLogger applicationLogger) {
+        this.activityHistoryRepository = activityHistoryRepository;
+        // Own transaction per batch - callers may still be bound to an already committed transaction (afterCommit)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.applicationLogger = applicationLogger;
+        this.logger = applicationLogger.getLogger(ActivityHistoryWriter.class);
+    }
+
+    @PostConstruct
+    void start() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("activity.history.queue.depth", queue, BlockingQueue::size)
+                .description("Activity history records waiting to be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("activity.history.flush")
+                .description("Time taken to write one batch of activity history")
+                .register(meterRegistry);
+        this.droppedCounter = meterRegistry.counter("activity.history.dropped");
+        this.failedCounter = meterRegistry.counter("activity.history.failed");
+        this.writtenCounter = meterRegistry.counter("activity.history.written");
+
+        if (!asyncEnabled) {
+            logger.info("Async activity history writer disabled - records are written synchronously");
+            return;
+        }
+
+        this.running = true;
+        this.drainer = new Thread(this::drainLoop, "activity-history-writer");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+        logger.info("Async activity history writer started (capacity: {}, batch size: {}, flush interval: {} ms, overflow: {})",
+                queueCapacity, batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    /**
+     * Queue a record for writing
+     * Inside a transaction the record is only queued after commit, so rolled back operations leave no audit entry
+     */
+    public void write(UserActivityHistory history) {
+        if (!running) {
+            writeBatch(List.of(history));
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(history);
+                }
+            });
+        } else {
+            enqueue(history);
+        }
+    }
+
+    private void enqueue(UserActivityHistory history) {
+        if (queue.offer(history)) {
+            return;
+        }
+
+        // Queue is full - apply the configured backpressure policy
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(history, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        drop(history);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    drop(history);
+                }
+            }
+            case DROP -> drop(history);
+            case CALLER_RUNS -> writeBatch(List.of(history));
+        }
+    }
+
+    private void drop(UserActivityHistory history) {
+        droppedCounter.increment();
+        logger.warn("Activity history queue full - dropped {} record for user: {}",
+                history.getActivityTypeCode(), history.getUsername());
+    }
+
+    private void drainLoop() {
+        List<UserActivityHistory> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                // Wait for the first record, then take whatever else is ready up to the batch size
+                UserActivityHistory first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                applicationLogger.logError(logger, "Activity history drainer failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<UserActivityHistory> batch) {
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> activityHistoryRepository.saveAll(batch)));
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            applicationLogger.logError(logger, "Failed to write " + batch.size() + " activity history records", e);
+        }
+    }
+
+    /**
+     * Stop the drainer and write everything still queued
+     */
+    @PreDestroy
+    void shutdown() {
+        if (!running) {
+            return;
+        }
+        // The drainer notices within one flush interval - not interrupted so an in-flight batch completes
+        running = false;
+        try {
+            drainer.join(flushIntervalMs + TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<UserActivityHistory> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            logger.info("Flushing {} queued activity history records on shutdown", remaining.size());
+            for (int from = 0; from < remaining.size(); from += batchSize) {
+                writeBatch(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+            }
+        }
+    }
+}
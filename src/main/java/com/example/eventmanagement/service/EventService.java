@@ -1,55 +1,179 @@
 package com.example.eventmanagement.service;
 
+import com.example.eventmanagement.cache.EntityCache;
+import com.example.eventmanagement.cache.PublicEventFeedCache;
+import com.example.eventmanagement.dto.EventChangesResponseDTO;
+import com.example.eventmanagement.dto.EventConflictDTO;
+import com.example.eventmanagement.dto.EventImportErrorDTO;
+import com.example.eventmanagement.dto.EventImportResultDTO;
 import com.example.eventmanagement.dto.EventInvitationDTO;
+import com.example.eventmanagement.dto.EventInvitationPatchDTO;
+import com.example.eventmanagement.dto.EventPageResponseDTO;
+import com.example.eventmanagement.dto.EventRemovalDTO;
 import com.example.eventmanagement.dto.EventRequestDTO;
 import com.example.eventmanagement.dto.EventResponseDTO;
+import com.example.eventmanagement.dto.FreeBusyRequestDTO;
+import com.example.eventmanagement.dto.FreeBusyResponseDTO;
+import com.example.eventmanagement.dto.TimeSlotDTO;
+import com.example.eventmanagement.dto.UserBasicDTO;
 import com.example.eventmanagement.enums.ActivityType;
+import com.example.eventmanagement.enums.ConflictPolicy;
+import com.example.eventmanagement.enums.ConflictType;
+import com.example.eventmanagement.enums.EventFeedView;
+import com.example.eventmanagement.enums.EventImportFormat;
+import com.example.eventmanagement.enums.EventJsonView;
+import com.example.eventmanagement.enums.EventSearchField;
 import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.event.EventChangedEvent;
 import com.example.eventmanagement.mapper.EventMapper;
 import com.example.eventmanagement.model.Event;
+import com.example.eventmanagement.model.EventRemoval;
 import com.example.eventmanagement.model.User;
+import com.example.eventmanagement.repository.EventRemovalRepository;
 import com.example.eventmanagement.repository.EventRepository;
+import com.example.eventmanagement.repository.UserEventFeedRepository;
 import com.example.eventmanagement.repository.UserRepository;
+import com.example.eventmanagement.schedule.EventIntervalIndex;
+import com.example.eventmanagement.search.EventSearchIndex;
+import com.example.eventmanagement.security.CurrentUserProvider;
 import com.example.eventmanagement.util.ApplicationLogger;
+import com.example.eventmanagement.util.EventChangeToken;
+import com.example.eventmanagement.util.EventCursor;
+import com.example.eventmanagement.util.EventImportReader;
+import com.example.eventmanagement.util.ResourceVersion;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 @Service
 public class EventService {
 
+    // Upper bound for page size on listing endpoints (larger requests are rejected, not cut down)
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Search hits checked for invitations per query while filtering by access
+    private static final int SEARCH_ACCESS_BATCH = 500;
+
+    // Free/busy limits: longest window in days and the default shortest free slot worth reporting
+    private static final int FREE_BUSY_MAX_DAYS = 31;
+    private static final int FREE_BUSY_DEFAULT_MIN_DURATION = 30;
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    // Listing order shared by the materialized feed and the events table: (eventDate, startTime, id)
+    private static final Comparator<EventResponseDTO> FEED_ORDER = Comparator
+            .comparing(EventResponseDTO::getEventDate)
+            .thenComparing(EventResponseDTO::getStartTime)
+            .thenComparing(EventResponseDTO::getId);
+
+    // Free slot end reported for "until midnight"
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59);
+
+    // Free/busy intervals are packed into one long so plain array sorts do the grouping:
+    // [user index][start minute][end minute], minutes counted from the window start (31 days fit in 20 bits)
+    private static final int MINUTE_BITS = 20;
+    private static final long MINUTE_MASK = (1L << MINUTE_BITS) - 1;
+
     private final EventRepository eventRepository;
+    private final EventRemovalRepository eventRemovalRepository;
+    private final UserEventFeedRepository userEventFeedRepository;
     private final UserRepository userRepository;
     private final EventMapper eventMapper;
     private final ActivityHistoryService activityHistoryService;
+    private final CurrentUserProvider currentUserProvider;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventIntervalIndex eventIntervalIndex;
+    private final EntityCache entityCache;
+    private final PublicEventFeedCache publicEventFeedCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
     private final ApplicationLogger applicationLogger;
     private final Logger logger;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Rows per transaction for bulk imports
+    @Value("${event-import.chunk-size:500}")
+    private int importChunkSize;
+
+    // What to do when a new or moved event overlaps another booking at the same location
+    @Value("${event-conflicts.venue-policy:REJECT}")
+    private ConflictPolicy venuePolicy;
+
+    // Delta sync only returns rows older than this, so transactions still committing are not skipped
+    @Value("${event-changes.settle-millis:2000}")
+    private long changesSettleMillis;
+
     @Autowired
     public EventService(EventRepository eventRepository,
+                        EventRemovalRepository eventRemovalRepository,
+                        UserEventFeedRepository userEventFeedRepository,
                         UserRepository userRepository,
                         EventMapper eventMapper,
                         ActivityHistoryService activityHistoryService,
+                        CurrentUserProvider currentUserProvider,
+                        EventSearchIndex eventSearchIndex,
+                        EventIntervalIndex eventIntervalIndex,
+                        EntityCache entityCache,
+                        PublicEventFeedCache publicEventFeedCache,
+                        ApplicationEventPublisher eventPublisher,
+                        ObjectMapper objectMapper,
+                        Validator validator,
+                        PlatformTransactionManager transactionManager,
                         ApplicationLogger applicationLogger) {
         this.eventRepository = eventRepository;
+        this.eventRemovalRepository = eventRemovalRepository;
+        this.userEventFeedRepository = userEventFeedRepository;
         this.userRepository = userRepository;
         this.eventMapper = eventMapper;
         this.activityHistoryService = activityHistoryService;
+        this.currentUserProvider = currentUserProvider;
+        this.eventSearchIndex = eventSearchIndex;
+        this.eventIntervalIndex = eventIntervalIndex;
+        this.entityCache = entityCache;
+        this.publicEventFeedCache = publicEventFeedCache;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
         this.applicationLogger = applicationLogger;
         this.logger = applicationLogger.getLogger(EventService.class);
     }
@@ -67,10 +191,8 @@ public class EventService {
             logger.info("Creating new event with title: {}", requestDTO.getTitle());
 
             // Get current authenticated user (event organizer)
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUsername = authentication.getName();
-            User organizer = userRepository.findByUsername(currentUsername)
-                    .orElseThrow(() -> new NoSuchElementException("Current user not found"));
+            String currentUsername = currentUserProvider.getCurrentUsername();
+            User organizer = currentUserProvider.getCurrentUserReference();
 
             logger.debug("Event organizer: {} (ID: {})", currentUsername, organizer.getId());
 
@@ -80,62 +202,11 @@ public class EventService {
                 throw new IllegalArgumentException("Event with title '" + requestDTO.getTitle() + "' already exists");
             }
 
-            // Validation 2: Event location is required
-            if (requestDTO.getLocation() == null || requestDTO.getLocation().trim().isEmpty()) {
-                logger.warn("Event creation failed: Location is required");
-                throw new IllegalArgumentException("Event location is required");
-            }
+            // Validations 2-9: location, dates, times, duration, invitations
+            validateEventRequest(requestDTO);
 
-            // Validation 3: Event date cannot be in the past
-            if (requestDTO.getEventDate().isBefore(LocalDate.now())) {
-                logger.warn("Event creation failed: Event date {} is in the past", requestDTO.getEventDate());
-                throw new IllegalArgumentException("Event date cannot be in the past");
-            }
-
-            // Validation 4: If event is today, start time cannot be in the past
-            if (requestDTO.getEventDate().isEqual(LocalDate.now()) &&
-                    requestDTO.getStartTime().isBefore(LocalTime.now())) {
-                logger.warn("Event creation failed: Start time {} is in the past for today's event", requestDTO.getStartTime());
-                throw new IllegalArgumentException("Event start time cannot be in the past for today's event");
-            }
-
-            // Validation 5: End time must be after start time
-            if (requestDTO.getEndTime().isBefore(requestDTO.getStartTime())) {
-                logger.warn("Event creation failed: End time {} is before start time {}",
-                        requestDTO.getEndTime(), requestDTO.getStartTime());
-                throw new IllegalArgumentException("Event end time must be after start time");
-            }
-
-            // Validation 6: End time cannot be equal to start time
-            if (requestDTO.getEndTime().equals(requestDTO.getStartTime())) {
-                logger.warn("Event creation failed: End time equals start time");
-                throw new IllegalArgumentException("Event end time must be different from start time");
-            }
-
-            // Validation 7: Event duration should be reasonable (at least 30 minutes)
-            long durationMinutes = java.time.Duration.between(
-                    requestDTO.getStartTime(),
-                    requestDTO.getEndTime()
-            ).toMinutes();
-
-            if (durationMinutes < 30) {
-                logger.warn("Event creation failed: Duration {} minutes is less than 30", durationMinutes);
-                throw new IllegalArgumentException("Event duration must be at least 30 minutes");
-            }
-
-            // Validation 8: Event duration should not exceed 24 hours
-            if (durationMinutes > 1440) {
-                logger.warn("Event creation failed: Duration {} minutes exceeds 24 hours", durationMinutes);
-                throw new IllegalArgumentException("Event duration cannot exceed 24 hours (single day event)");
-            }
-
-            // Validation 9: For PRIVATE events, invited users list is required
-            if (requestDTO.getEventType() == EventType.PRIVATE) {
-                if (requestDTO.getInvitedUserIds() == null || requestDTO.getInvitedUserIds().isEmpty()) {
-                    logger.warn("Event creation failed: PRIVATE event must have invited users");
-                    throw new IllegalArgumentException("PRIVATE events must have at least one invited user");
-                }
-            }
+            // Validation 10: Venue double-booking and participant overlaps
+            checkConflicts(requestDTO, null, organizer.getId());
 
             // Create event entity
             Event event = eventMapper.toEntity(requestDTO);
@@ -143,26 +214,24 @@ public class EventService {
 
             // Handle invited users for PRIVATE events
             if (requestDTO.getEventType() == EventType.PRIVATE && requestDTO.getInvitedUserIds() != null) {
-                Set<User> invitedUsers = new HashSet<>();
-                for (Long userId : requestDTO.getInvitedUserIds()) {
-                    User user = userRepository.findById(userId)
-                            .orElseThrow(() -> new NoSuchElementException("User not found with id: " + userId));
-
-                    // Validation: Cannot invite yourself as organizer
-                    if (user.getId().equals(organizer.getId())) {
-                        logger.warn("Event creation failed: Cannot invite organizer to own event");
-                        throw new IllegalArgumentException("Cannot invite yourself as organizer to your own event");
-                    }
-
-                    invitedUsers.add(user);
+                // Validation: Cannot invite yourself as organizer
+                if (requestDTO.getInvitedUserIds().contains(organizer.getId())) {
+                    logger.warn("Event creation failed: Cannot invite organizer to own event");
+                    throw new IllegalArgumentException("Cannot invite yourself as organizer to your own event");
                 }
+
+                Set<User> invitedUsers = resolveInvitees(requestDTO.getInvitedUserIds());
                 event.setInvitedUsers(invitedUsers);
                 logger.debug("Added {} invited users to PRIVATE event", invitedUsers.size());
             }
 
             // Save event to database
             Event savedEvent = eventRepository.save(event);
+            if (savedEvent.getEventType() == EventType.PRIVATE) {
+                refreshFeed(savedEvent.getId());
+            }
             logger.info("Event created successfully with ID: {}", savedEvent.getId());
+            eventPublisher.publishEvent(EventChangedEvent.created(savedEvent));
 
             // Record activity
             activityHistoryService.recordActivity(ActivityType.EVENT_CREATE, request);
@@ -176,7 +245,7 @@ public class EventService {
         } catch (NoSuchElementException e) {
             applicationLogger.logError(logger, "Event creation failed: Entity not found", e);
             throw e;
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | IllegalStateException e) {
             applicationLogger.logError(logger, "Event creation failed: Validation error", e);
             throw e;
         } catch (Exception e) {
@@ -185,43 +254,320 @@ public class EventService {
         }
     }
 
+    /**
+     * Bulk import events from a streamed NDJSON or CSV body
+     * Rows are validated with the same rules as createEvent and saved in chunks, one transaction per chunk
+     * Existing titles are loaded once, invitees are resolved with one IN query per chunk
+     * Invalid rows are reported back without aborting the rest of the file
+     */
+    public EventImportResultDTO importEvents(InputStream body, EventImportFormat format, HttpServletRequest request) {
+        try (EventImportReader reader = new EventImportReader(body, format, objectMapper)) {
+            // TRACE LOG: Start of operation
+            applicationLogger.logTrace(logger, "IMPORT", "Event", format);
+            Long organizerId = currentUserProvider.getCurrentUserId();
+            logger.info("Importing events ({}) for organizer ID: {}", format, organizerId);
+
+            Set<String> existingTitles = new HashSet<>(eventRepository.findAllTitles());
+            EventImportResultDTO result = new EventImportResultDTO();
+            List<EventImportReader.Row> chunk = new ArrayList<>(importChunkSize);
+
+            EventImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == importChunkSize) {
+                    importChunk(chunk, organizerId, existingTitles, result);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, organizerId, existingTitles, result);
+            }
+
+            logger.info("Event import finished - rows: {}, imported: {}, failed: {}",
+                    result.getTotalRows(), result.getImportedCount(), result.getFailedCount());
+
+            // Record activity (one entry for the whole file)
+            activityHistoryService.recordActivity(ActivityType.EVENT_IMPORT, request, "Event", null, null,
+                    "Imported " + result.getImportedCount() + " of " + result.getTotalRows() + " events");
+
+            // TRACE LOG: End of operation
+            applicationLogger.logTrace(logger, "IMPORT", "Event", result.getImportedCount());
+
+            return result;
+
+        } catch (IllegalArgumentException e) {
+            applicationLogger.logError(logger, "Event import failed: Invalid file", e);
+            throw e;
+        } catch (Exception e) {
+            applicationLogger.logError(logger, "Event import failed: Unexpected error", e);
+            throw new RuntimeException("Failed to import events: " + e.getMessage(), e);
+        }
+    }
+
+    // Validate and save one chunk of import rows in its own transaction
+    private void importChunk(List<EventImportReader.Row> chunk, Long organizerId,
+                             Set<String> existingTitles, EventImportResultDTO result) {
+        result.addRows(chunk.size());
+        List<EventImportErrorDTO> rowErrors = new ArrayList<>();
+        List<EventImportReader.Row> accepted = new ArrayList<>();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // One IN query for every invitee referenced in this chunk
+                Set<Long> inviteeIds = new HashSet<>();
+                for (EventImportReader.Row row : chunk) {
+                    if (row.getRequest() != null && row.getRequest().getInvitedUserIds() != null) {
+                        inviteeIds.addAll(row.getRequest().getInvitedUserIds());
+                    }
+                }
+                Map<Long, User> invitees = new HashMap<>();
+                if (!inviteeIds.isEmpty()) {
+                    userRepository.findAllWithRoleByIdIn(inviteeIds).forEach(user -> invitees.put(user.getId(), user));
+                }
+
+                User organizer = userRepository.getReferenceById(organizerId);
+                Set<String> chunkTitles = new HashSet<>();
+                List<Event> events = new ArrayList<>();
+
+                for (EventImportReader.Row row : chunk) {
+                    EventRequestDTO requestDTO = row.getRequest();
+                    if (requestDTO == null) {
+                        rowErrors.add(new EventImportErrorDTO(row.getLineNumber(), null, row.getError()));
+                        continue;
+                    }
+                    try {
+                        validateImportRow(requestDTO, existingTitles, chunkTitles, invitees, organizerId);
+
+                        Event event = eventMapper.toEntity(requestDTO);
+                        event.setOrganizer(organizer);
+                        if (requestDTO.getEventType() == EventType.PRIVATE) {
+                            Set<User> invitedUsers = new HashSet<>();
+                            requestDTO.getInvitedUserIds().forEach(id -> invitedUsers.add(invitees.get(id)));
+                            event.setInvitedUsers(invitedUsers);
+                        }
+
+                        chunkTitles.add(requestDTO.getTitle());
+                        events.add(event);
+                        accepted.add(row);
+                    } catch (IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+                        rowErrors.add(new EventImportErrorDTO(row.getLineNumber(), requestDTO.getTitle(), e.getMessage()));
+                    }
+                }
+
+                // Batched inserts (pooled IDs + hibernate.jdbc.batch_size)
+                eventRepository.saveAll(events);
+                entityManager.flush();
+                List<Long> privateEventIds = events.stream()
+                        .filter(event -> event.getEventType() == EventType.PRIVATE)
+                        .map(Event::getId)
+                        .toList();
+                if (!privateEventIds.isEmpty()) {
+                    userEventFeedRepository.insertForEvents(privateEventIds);
+                }
+                events.forEach(event -> eventPublisher.publishEvent(EventChangedEvent.created(event)));
+            });
+
+            accepted.forEach(row -> existingTitles.add(row.getRequest().getTitle()));
+            result.addImported(accepted.size());
+            logger.debug("Imported chunk of {} rows ({} saved)", chunk.size(), accepted.size());
+
+        } catch (Exception e) {
+            // Whole chunk rolled back - report every row that was about to be saved
+            applicationLogger.logError(logger, "Event import chunk failed", e);
+            for (EventImportReader.Row row : accepted) {
+                rowErrors.add(new EventImportErrorDTO(row.getLineNumber(), row.getRequest().getTitle(),
+                        "Chunk could not be saved: " + e.getMessage()));
+            }
+        } finally {
+            // Keep the persistence context from growing across chunks
+            entityManager.clear();
+        }
+
+        rowErrors.sort(Comparator.comparingLong(EventImportErrorDTO::getLine));
+        rowErrors.forEach(result::addError);
+    }
+
+    // Same checks as createEvent, against preloaded titles and invitees
+    private void validateImportRow(EventRequestDTO requestDTO, Set<String> existingTitles, Set<String> chunkTitles,
+                                   Map<Long, User> invitees, Long organizerId) {
+        Set<ConstraintViolation<EventRequestDTO>> violations = validator.validate(requestDTO);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        // Validation 1: Duplicate title (in the database or earlier in the file)
+        if (existingTitles.contains(requestDTO.getTitle()) || chunkTitles.contains(requestDTO.getTitle())) {
+            throw new IllegalArgumentException("Event with title '" + requestDTO.getTitle() + "' already exists");
+        }
+
+        // Validations 2-9
+        validateEventRequest(requestDTO);
+
+        // Validation 10 (against committed events; rows of the same file are not checked against each other)
+        checkConflicts(requestDTO, null, organizerId);
+
+        // Invitees must exist and cannot include the organizer
+        if (requestDTO.getEventType() == EventType.PRIVATE) {
+            for (Long userId : requestDTO.getInvitedUserIds()) {
+                if (!invitees.containsKey(userId)) {
+                    throw new NoSuchElementException("User not found with id: " + userId);
+                }
+                if (userId.equals(organizerId)) {
+                    throw new IllegalArgumentException("Cannot invite yourself as organizer to your own event");
+                }
+            }
+        }
+    }
+
     /**
      * Get all events with pagination
      * Returns only PUBLIC events + events user is invited to + events user organized
+     * Pagination happens in the database - only the requested slice is loaded
      */
     public List<EventResponseDTO> getAllEvents(int page, int size) {
         try {
             logger.debug("Fetching all events - page: {}, size: {}", page, size);
 
             // Get current user
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUsername = authentication.getName();
-            User currentUser = userRepository.findByUsername(currentUsername)
-                    .orElseThrow(() -> new NoSuchElementException("Current user not found"));
+            String currentUsername = currentUserProvider.getCurrentUsername();
+            Long currentUserId = currentUserProvider.getCurrentUserId();
 
-            // Get accessible events for this user
-            List<Event> accessibleEvents = eventRepository.findAccessibleEventsByUserId(currentUser.getId());
+            // Get requested page of accessible events for this user
+            List<EventResponseDTO> events = loadInOrder(accessibleEventIds(currentUserId, PageRequest.of(page, size)));
+            logger.debug("Found {} events for user: {}", events.size(), currentUsername);
 
-            // Apply pagination manually
-            int start = page * size;
-            int end = Math.min(start + size, accessibleEvents.size());
+            return events;
 
-            if (start > accessibleEvents.size()) {
-                logger.debug("No events found for page: {}", page);
-                return List.of();
-            }
+        } catch (IllegalArgumentException e) {
+            applicationLogger.logError(logger, "Failed to fetch all events: Invalid page request", e);
+            throw e;
+        } catch (Exception e) {
+            applicationLogger.logError(logger, "Failed to fetch all events", e);
+            throw new RuntimeException("Failed to fetch events: " + e.getMessage(), e);
+        }
+    }
 
-            List<Event> paginatedEvents = accessibleEvents.subList(start, end);
-            logger.debug("Found {} events for user: {}", paginatedEvents.size(), currentUsername);
+    /**
+     * Get one page of a cursor-paginated event feed
+     * Seeks on (eventDate, startTime, id) so every page costs the same regardless of depth
+     * Total count is only computed for the first page
+     */
+    public EventPageResponseDTO getEventFeed(EventFeedView view, String cursor, int size) {
+        try {
+            EventCursor after = EventCursor.decode(cursor);
+            int pageSize = checkPageSize(size);
+            logger.debug("Fetching event feed - view: {}, cursor: {}, size: {}", view, cursor, pageSize);
+
+            // Get current user
+            Long userId = currentUserProvider.getCurrentUserId();
+
+            LocalDate today = LocalDate.now();
+            LocalDate cursorDate = after.getEventDate();
+            LocalTime cursorTime = after.getStartTime();
+            Long cursorId = after.getId();
+
+            // Fetch one extra row to know whether another page exists
+            Pageable limit = PageRequest.of(0, pageSize + 1);
+
+            List<EventResponseDTO> events = switch (view) {
+                case ALL -> loadInOrder(eventRepository.findAccessibleEventIds(userId, cursorDate, cursorTime, cursorId,
+                        limit.getPageSize(), limit.getPageSize(), 0));
+                case PUBLIC -> eventRepository.findPublicEventsAfter(cursorDate, cursorTime, cursorId, limit);
+                case UPCOMING -> upcomingFeed(userId, today, after, limit);
+                case PAST -> eventRepository.findPastEventsAfter(today, cursorDate, cursorTime, cursorId, limit);
+                case TODAY -> eventRepository.findEventsOnDateAfter(today, cursorDate, cursorTime, cursorId, limit);
+                case MY_ORGANIZED -> eventRepository.findOrganizedEventsAfter(userId, cursorDate, cursorTime, cursorId, limit);
+                case MY_INVITATIONS -> eventRepository.findInvitedEventsAfter(userId, cursorDate, cursorTime, cursorId, limit);
+            };
 
-            return eventMapper.toResponseDTOList(paginatedEvents);
+            Long total = after.isOrigin() ? countFeed(view, userId, today) : null;
 
+            EventPageResponseDTO page = toEventPage(events, pageSize, total);
+
+            // Show full details for own events
+            if (view == EventFeedView.MY_ORGANIZED) {
+                attachInvitedUsers(page.getContent());
+            }
+
+            return page;
+
+        } catch (IllegalArgumentException e) {
+            applicationLogger.logError(logger, "Failed to fetch event feed: Invalid cursor", e);
+            throw e;
         } catch (Exception e) {
-            applicationLogger.logError(logger, "Failed to fetch all events", e);
+            applicationLogger.logError(logger, "Failed to fetch event feed", e);
             throw new RuntimeException("Failed to fetch events: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Delta sync: accessible events changed and events removed from the user's view since the token
+     * Both streams are keyset scans on (timestamp, id), so an up-to-date client costs one index probe each
+     * Rows newer than the settle horizon are left for the next call (their transactions may still be committing)
+     */
+    public EventChangesResponseDTO getEventChanges(String since, int size) {
+        try {
+            EventChangeToken after = EventChangeToken.decode(since);
+            int pageSize = checkPageSize(size);
+            Long userId = currentUserProvider.getCurrentUserId();
+            LocalDateTime until = LocalDateTime.now().minusNanos(changesSettleMillis * 1_000_000);
+            logger.debug("Fetching event changes - user ID: {}, since: {}, size: {}", userId, since, pageSize);
+
+            // Fetch one extra row per stream to know whether more are waiting
+            Pageable limit = PageRequest.of(0, pageSize + 1);
+            List<EventResponseDTO> changed = eventRepository.findChangedEventsAfter(userId,
+                    after.getChangedAt(), after.getChangedId(), until, limit);
+            List<EventRemoval> removals = eventRemovalRepository.findRemovalsAfter(userId,
+                    after.getRemovedAt(), after.getRemovedId(), until, limit);
+
+            boolean moreChanged = changed.size() > pageSize;
+            boolean moreRemoved = removals.size() > pageSize;
+            changed = moreChanged ? changed.subList(0, pageSize) : changed;
+            removals = moreRemoved ? removals.subList(0, pageSize) : removals;
+
+            // A drained stream moves to the horizon, so rows the user cannot see are not scanned again
+            LocalDateTime changedAt = after.getChangedAt();
+            Long changedId = after.getChangedId();
+            if (moreChanged) {
+                EventResponseDTO last = changed.get(changed.size() - 1);
+                changedAt = last.getUpdatedAt();
+                changedId = last.getId();
+            } else if (until.isAfter(changedAt)) {
+                changedAt = until;
+                changedId = Long.MAX_VALUE;
+            }
+
+            LocalDateTime removedAt = after.getRemovedAt();
+            Long removedId = after.getRemovedId();
+            if (moreRemoved) {
+                EventRemoval last = removals.get(removals.size() - 1);
+                removedAt = last.getRemovedAt();
+                removedId = last.getId();
+            } else if (until.isAfter(removedAt)) {
+                removedAt = until;
+                removedId = Long.MAX_VALUE;
+            }
+
+            List<EventRemovalDTO> removed = removals.stream()
+                    .map(removal -> new EventRemovalDTO(removal.getEventId(), removal.getRemovedAt()))
+                    .toList();
+            String nextToken = new EventChangeToken(changedAt, changedId, removedAt, removedId).encode();
+
+            logger.debug("Found {} changed and {} removed events for user ID: {}", changed.size(), removed.size(), userId);
+            return new EventChangesResponseDTO(changed, removed, nextToken, moreChanged || moreRemoved);
+
+        } catch (IllegalArgumentException e) {
+            applicationLogger.logError(logger, "Failed to fetch event changes: Invalid token", e);
+            throw e;
+        } catch (Exception e) {
+            applicationLogger.logError(logger, "Failed to fetch event changes", e);
+            throw new RuntimeException("Failed to fetch event changes: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Get event by ID
      * Checks if user has permission to view the event
@@ -231,17 +577,24 @@ public class EventService {
         try {
             logger.debug("Fetching event with ID: {}", id);
 
-            Event event = eventRepository.findById(id)
+            // PUBLIC events look the same to everyone but their organizer - serve those from the entity cache
+            User currentUser = currentUserProvider.getCurrentUserReference();
+            EventResponseDTO cached = entityCache.getEvent(id);
+            if (cached != null && !cached.getOrganizer().getId().equals(currentUser.getId())) {
+                return cached;
+            }
+
+            // Event, organizer basics and invitee count from one projection - the invitee set is never loaded
+            EventResponseDTO responseDTO = eventRepository.findEventViewById(id)
                     .orElseThrow(() -> new NoSuchElementException("Event not found with id: " + id));
 
             // Get current user
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUsername = authentication.getName();
-            User currentUser = userRepository.findByUsername(currentUsername)
-                    .orElseThrow(() -> new NoSuchElementException("Current user not found"));
+            String currentUsername = currentUserProvider.getCurrentUsername();
+            boolean organizer = responseDTO.getOrganizer().getId().equals(currentUser.getId());
 
-            // Check if user can access this event
-            if (!event.canUserAccess(currentUser)) {
+            // Check if user can access this event (invitation checked with an EXISTS probe on event_invitations)
+            if (responseDTO.getEventType() == EventType.PRIVATE && !organizer
+                    && !eventRepository.isUserInvited(id, currentUser.getId())) {
                 logger.warn("User {} attempted to access private event ID: {}", currentUsername, id);
                 throw new SecurityException("You don't have permission to view this private event");
             }
@@ -249,12 +602,16 @@ public class EventService {
             logger.debug("Event ID {} accessed by user: {}", id, currentUsername);
 
             // If user is organizer, show full details including invited users
-            if (event.isOrganizer(currentUser)) {
-                return eventMapper.toResponseDTOWithInvitedUsers(event);
+            if (organizer) {
+                attachInvitedUsers(List.of(responseDTO));
+                return responseDTO;
             }
 
             // Otherwise, show basic details
-            return eventMapper.toResponseDTO(event);
+            if (responseDTO.getEventType() == EventType.PUBLIC) {
+                entityCache.putEvent(responseDTO);
+            }
+            return responseDTO;
 
         } catch (NoSuchElementException e) {
             applicationLogger.logError(logger, "Event not found with ID: " + id, e);
@@ -268,13 +625,108 @@ public class EventService {
         }
     }
 
+    /**
+     * Version of an event as the current user would see it, for conditional GETs (If-None-Match only)
+     * One probe query (plus the invitee rows for the organizer), no entity load; same access rule and errors as getEventById
+     */
+    public ResourceVersion getEventVersion(Long id) {
+        try {
+            Long currentUserId = currentUserProvider.getCurrentUserId();
+            Object[] row = eventRepository.findVersionRow(id, currentUserId).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new NoSuchElementException("Event not found with id: " + id));
+
+            if (!Boolean.TRUE.equals(row[5])) {
+                throw new SecurityException("You don't have permission to view this private event");
+            }
+
+            // The organizer sees the invited users list, so invitee profile changes count too
+            boolean organizerView = currentUserId.equals(row[1]);
+            List<Object[]> invitees = List.of();
+            if (organizerView) {
+                invitees = eventRepository.findInviteeRows(List.of(id)).stream()
+                        .map(invitee -> new Object[]{invitee[1], invitee[2], invitee[3], invitee[4]})
+                        .toList();
+            }
+            return eventVersion(id, (Long) row[0], new Object[]{row[2], row[3], row[4]}, invitees, organizerView);
+
+        } catch (NoSuchElementException e) {
+            applicationLogger.logError(logger, "Event not found with ID: " + id, e);
+            throw e;
+        } catch (SecurityException e) {
+            applicationLogger.logError(logger, "Access denied to event ID: " + id, e);
+            throw e;
+        } catch (Exception e) {
+            applicationLogger.logError(logger, "Failed to fetch version of event ID: " + id, e);
+            throw new RuntimeException("Failed to fetch event version: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The same version taken from an event that was just loaded (no query), for the ETag of a full response
+     */
+    public ResourceVersion getEventVersion(EventResponseDTO event) {
+        Long currentUserId = currentUserProvider.getCurrentUserId();
+        UserBasicDTO organizer = event.getOrganizer();
+        boolean organizerView = organizer.getId().equals(currentUserId);
+        List<Object[]> invitees = List.of();
+        if (organizerView && event.getInvitedUsers() != null) {
+            invitees = event.getInvitedUsers().stream()
+                    .map(invitee -> new Object[]{invitee.getId(), invitee.getUsername(), invitee.getFullName(), invitee.getEmail()})
+                    .toList();
+        }
+        return eventVersion(event.getId(), event.getVersion(),
+                new Object[]{organizer.getUsername(), organizer.getFullName(), organizer.getEmail()}, invitees, organizerView);
+    }
+
+    /**
+     * Version of a listing page for the current user, for conditional GETs (If-None-Match only)
+     * Digest of the rows the page would show: ALL reads the page's IDs through the UNION ALL access filter,
+     * the other views one per-user index range, then (id, version, organizer) per row - no aggregate over the
+     * accessible set, no invitee rows, no JSON. Removed or added rows change it like edits do
+     * Only ALL (paged), MY_ORGANIZED and MY_INVITATIONS: PUBLIC is served from the microcache and the
+     * date-based listings change with the clock
+     */
+    public ResourceVersion getListingVersion(EventFeedView view, Pageable pageable) {
+        try {
+            Long currentUserId = currentUserProvider.getCurrentUserId();
+            List<Object[]> rows = switch (view) {
+                case ALL -> stampsInOrder(accessibleEventIds(currentUserId, pageable));
+                case MY_ORGANIZED -> eventRepository.findOrganizedEventStamps(currentUserId);
+                case MY_INVITATIONS -> eventRepository.findInvitedEventStamps(currentUserId);
+                default -> throw new IllegalArgumentException("Listing version is not available for view: " + view);
+            };
+            return ResourceVersion.ofRows(listingTag(view, currentUserId, pageable), rows);
+
+        } catch (IllegalArgumentException e) {
+            applicationLogger.logError(logger, "Invalid listing version request: " + view, e);
+            throw e;
+        } catch (Exception e) {
+            applicationLogger.logError(logger, "Failed to fetch listing version: " + view, e);
+            throw new RuntimeException("Failed to fetch listing version: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The same version taken from a page that was just loaded (no query), for the ETag of a full response
+     */
+    public ResourceVersion getListingVersion(EventFeedView view, Pageable pageable, List<EventResponseDTO> events) {
+        Long currentUserId = currentUserProvider.getCurrentUserId();
+        List<Object[]> rows = events.stream()
+                .map(event -> new Object[]{event.getId(), event.getVersion(), event.getOrganizer().getUsername(),
+                        event.getOrganizer().getFullName(), event.getOrganizer().getEmail()})
+                .toList();
+        return ResourceVersion.ofRows(listingTag(view, currentUserId, pageable), rows);
+    }
+
     /**
      * Update event with validation
      * Only organizer can update the event
      * Validates: event exists, not past event, dates, times, location, invitations
+     * expectedVersion (If-Match) must match the current version when given
      */
     @Transactional
-    public EventResponseDTO updateEvent(Long id, EventRequestDTO requestDTO, HttpServletRequest request) {
+    public EventResponseDTO updateEvent(Long id, EventRequestDTO requestDTO, Long expectedVersion, HttpServletRequest request) {
         try {
             // TRACE LOG: Start of operation
             applicationLogger.logTrace(logger, "UPDATE", "Event", id);
@@ -287,16 +739,15 @@ public class EventService {
             logger.debug("Found event: {} (Organizer: {})", existingEvent.getTitle(), existingEvent.getOrganizer().getUsername());
 
             // Get current user
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUsername = authentication.getName();
-            User currentUser = userRepository.findByUsername(currentUsername)
-                    .orElseThrow(() -> new NoSuchElementException("Current user not found"));
+            String currentUsername = currentUserProvider.getCurrentUsername();
+            User currentUser = currentUserProvider.getCurrentUserReference();
 
             // Validation 0: Only organizer can update the event
             if (!existingEvent.isOrganizer(currentUser)) {
                 logger.warn("Event update failed: User {} is not the organizer of event ID: {}", currentUsername, id);
                 throw new SecurityException("Only the event organizer can update this event");
             }
+            ResourceVersion.checkIfMatch("Event", id, existingEvent.getVersion(), expectedVersion);
 
             // Validation 1: Cannot update event that has already ended
             LocalDateTime existingEventEnd = LocalDateTime.of(existingEvent.getEventDate(), existingEvent.getEndTime());
@@ -365,36 +816,69 @@ public class EventService {
                     logger.warn("Event update failed: PRIVATE event must have invited users");
                     throw new IllegalArgumentException("PRIVATE events must have at least one invited user");
                 }
+                if (requestDTO.getInvitedUserIds().contains(currentUser.getId())) {
+                    logger.warn("Event update failed: Cannot invite organizer to own event");
+                    throw new IllegalArgumentException("Cannot invite yourself as organizer to your own event");
+                }
             }
 
+            // Validation 10: Venue double-booking and participant overlaps (ignoring this event's own slot)
+            checkConflicts(requestDTO, id, currentUser.getId());
+
+            EventType previousType = existingEvent.getEventType();
+            LocalDate previousDate = existingEvent.getEventDate();
+            LocalTime previousStartTime = existingEvent.getStartTime();
+
             // Update entity from DTO
             eventMapper.updateEntityFromDTO(requestDTO, existingEvent);
 
-            // Handle invited users update for PRIVATE events
-            if (requestDTO.getEventType() == EventType.PRIVATE && requestDTO.getInvitedUserIds() != null) {
-                Set<User> invitedUsers = new HashSet<>();
-                for (Long userId : requestDTO.getInvitedUserIds()) {
-                    User user = userRepository.findById(userId)
-                            .orElseThrow(() -> new NoSuchElementException("User not found with id: " + userId));
-
-                    if (user.getId().equals(currentUser.getId())) {
-                        logger.warn("Event update failed: Cannot invite organizer to own event");
-                        throw new IllegalArgumentException("Cannot invite yourself as organizer to your own event");
-                    }
+            touchAndFlush(existingEvent);
+            LocalDateTime now = existingEvent.getUpdatedAt();
 
-                    invitedUsers.add(user);
-                }
-                existingEvent.setInvitedUsers(invitedUsers);
-                logger.debug("Updated {} invited users for PRIVATE event", invitedUsers.size());
-            } else if (requestDTO.getEventType() == EventType.PUBLIC) {
+            // Who could see the event before, for delta sync tombstones (invitee IDs only, the set stays unloaded)
+            Set<Long> previousInvitees = new HashSet<>(eventRepository.findInvitedUserIds(id));
+
+            // Handle invited users update: only the difference to the stored invitations is written
+            InvitationDelta delta;
+            if (requestDTO.getEventType() == EventType.PRIVATE) {
+                Set<Long> dropped = new HashSet<>(previousInvitees);
+                dropped.removeAll(requestDTO.getInvitedUserIds());
+                delta = applyInvitationDelta(id, previousInvitees, requestDTO.getInvitedUserIds(), dropped);
+                logger.debug("Updated invited users for PRIVATE event: {} added, {} removed",
+                        delta.added().size(), delta.removed().size());
+            } else {
                 // Clear invited users if changing from PRIVATE to PUBLIC
-                existingEvent.getInvitedUsers().clear();
+                if (!previousInvitees.isEmpty()) {
+                    eventRepository.deleteAllInvitations(id);
+                }
+                delta = new InvitationDelta(Set.of(), previousInvitees, Set.of());
                 logger.debug("Cleared invited users (changed to PUBLIC event)");
             }
 
+            // Tombstones for users who lost access: everyone but the invitees when made PRIVATE, else the dropped invitees
+            if (existingEvent.getEventType() == EventType.PRIVATE) {
+                if (previousType == EventType.PUBLIC) {
+                    recordRemovals(id, null, now);
+                } else {
+                    recordRemovals(id, delta.removed(), now);
+                }
+            }
+
             // Save updated event
             Event updatedEvent = eventRepository.save(existingEvent);
+            if (previousType != updatedEvent.getEventType()) {
+                refreshFeed(updatedEvent.getId());
+            } else if (updatedEvent.getEventType() == EventType.PRIVATE) {
+                // Same members stay put: only changed invitees' rows are written, a reschedule moves the rest in place
+                applyFeedDelta(updatedEvent.getId(), delta);
+                if (!previousDate.equals(updatedEvent.getEventDate()) || !previousStartTime.equals(updatedEvent.getStartTime())) {
+                    userEventFeedRepository.updateSchedule(updatedEvent.getId(),
+                            updatedEvent.getEventDate(), updatedEvent.getStartTime());
+                }
+            }
             logger.info("Event updated successfully with ID: {}", updatedEvent.getId());
+            eventPublisher.publishEvent(EventChangedEvent.updated(updatedEvent, previousType, delta.invitees(), delta.removed()));
+            entityCache.evictEvent(updatedEvent.getId());
 
             // Record activity
             activityHistoryService.recordActivity(ActivityType.EVENT_UPDATE, request);
@@ -402,7 +886,7 @@ public class EventService {
             // TRACE LOG: End of operation
             applicationLogger.logTrace(logger, "UPDATE", "Event", updatedEvent.getId());
 
-            return eventMapper.toResponseDTOWithInvitedUsers(updatedEvent);
+            return getOrganizerView(updatedEvent.getId());
 
         } catch (NoSuchElementException e) {
             applicationLogger.logError(logger, "Event update failed: Entity not found for ID: " + id, e);
@@ -413,6 +897,9 @@ public class EventService {
         } catch (IllegalArgumentException | IllegalStateException e) {
             applicationLogger.logError(logger, "Event update failed: Validation error for ID: " + id, e);
             throw e;
+        } catch (OptimisticLockingFailureException e) {
+            applicationLogger.logError(logger, "Event update failed: Version conflict for ID: " + id, e);
+            throw e;
         } catch (Exception e) {
             applicationLogger.logError(logger, "Event update failed: Unexpected error for ID: " + id, e);
             throw new RuntimeException("Failed to update event: " + e.getMessage(), e);
@@ -423,9 +910,10 @@ public class EventService {
      * Delete event with validation
      * Only organizer can delete the event
      * Cannot delete past or ongoing events
+     * expectedVersion (If-Match) must match the current version when given
      */
     @Transactional
-    public void deleteEvent(Long id, HttpServletRequest request) {
+    public void deleteEvent(Long id, Long expectedVersion, HttpServletRequest request) {
         try {
             // TRACE LOG: Start of operation
             applicationLogger.logTrace(logger, "DELETE", "Event", id);
@@ -439,16 +927,15 @@ public class EventService {
                     existingEvent.getTitle(), existingEvent.getOrganizer().getUsername());
 
             // Get current user
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUsername = authentication.getName();
-            User currentUser = userRepository.findByUsername(currentUsername)
-                    .orElseThrow(() -> new NoSuchElementException("Current user not found"));
+            String currentUsername = currentUserProvider.getCurrentUsername();
+            User currentUser = currentUserProvider.getCurrentUserReference();
 
             // Validation 0: Only organizer can delete the event
             if (!existingEvent.isOrganizer(currentUser)) {
                 logger.warn("Event deletion failed: User {} is not the organizer of event ID: {}", currentUsername, id);
                 throw new SecurityException("Only the event organizer can delete this event");
             }
+            ResourceVersion.checkIfMatch("Event", id, existingEvent.getVersion(), expectedVersion);
 
             // Validation 1: Cannot delete event that has already started
             LocalDateTime eventStart = LocalDateTime.of(existingEvent.getEventDate(), existingEvent.getStartTime());
@@ -465,9 +952,15 @@ public class EventService {
                 throw new IllegalStateException("Cannot delete an ongoing event");
             }
 
-            // Delete event
+            // Delete event (rows are hard-deleted - the tombstone tells delta sync clients)
             eventRepository.delete(existingEvent);
+            if (existingEvent.getEventType() == EventType.PRIVATE) {
+                userEventFeedRepository.deleteForEvents(List.of(id));
+            }
+            recordRemovals(id, null, LocalDateTime.now());
             logger.info("Event deleted successfully with ID: {}", id);
+            eventPublisher.publishEvent(EventChangedEvent.deleted(existingEvent));
+            entityCache.evictEvent(id);
 
             // Record activity
             activityHistoryService.recordActivity(ActivityType.EVENT_DELETE, request);
@@ -484,6 +977,9 @@ public class EventService {
         } catch (IllegalStateException e) {
             applicationLogger.logError(logger, "Event deletion failed: State validation error for ID: " + id, e);
             throw e;
+        } catch (OptimisticLockingFailureException e) {
+            applicationLogger.logError(logger, "Event deletion failed: Version conflict for ID: " + id, e);
+            throw e;
         } catch (Exception e) {
             applicationLogger.logError(logger, "Event deletion failed: Unexpected error for ID: " + id, e);
             throw new RuntimeException("Failed to delete event: " + e.getMessage(), e);
@@ -495,9 +991,10 @@ public class EventService {
     /**
      * Invite users to a PRIVATE event
      * Only organizer can invite users
+     * expectedVersion (If-Match) must match the current version when given
      */
     @Transactional
-    public EventResponseDTO inviteUsersToEvent(EventInvitationDTO invitationDTO, HttpServletRequest request) {
+    public EventResponseDTO inviteUsersToEvent(EventInvitationDTO invitationDTO, Long expectedVersion, HttpServletRequest request) {
         try {
             logger.info("Inviting users to event ID: {}", invitationDTO.getEventId());
 
@@ -506,16 +1003,15 @@ public class EventService {
                     .orElseThrow(() -> new NoSuchElementException("Event not found with id: " + invitationDTO.getEventId()));
 
             // Get current user
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUsername = authentication.getName();
-            User currentUser = userRepository.findByUsername(currentUsername)
-                    .orElseThrow(() -> new NoSuchElementException("Current user not found"));
+            String currentUsername = currentUserProvider.getCurrentUsername();
+            User currentUser = currentUserProvider.getCurrentUserReference();
 
             // Validation 1: Only organizer can invite users
             if (!event.isOrganizer(currentUser)) {
                 logger.warn("Invite failed: User {} is not the organizer", currentUsername);
                 throw new SecurityException("Only the event organizer can invite users");
             }
+            ResourceVersion.checkIfMatch("Event", event.getId(), event.getVersion(), expectedVersion);
 
             // Validation 2: Can only invite to PRIVATE events
             if (event.getEventType() != EventType.PRIVATE) {
@@ -523,27 +1019,25 @@ public class EventService {
                 throw new IllegalStateException("Can only invite users to PRIVATE events");
             }
 
-            // Add invited users
-            for (Long userId : invitationDTO.getUserIds()) {
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new NoSuchElementException("User not found with id: " + userId));
-
-                if (user.getId().equals(currentUser.getId())) {
-                    logger.warn("Invite failed: Cannot invite organizer");
-                    throw new IllegalArgumentException("Cannot invite yourself as organizer");
-                }
-
-                event.addInvitedUser(user);
+            if (invitationDTO.getUserIds().contains(currentUser.getId())) {
+                logger.warn("Invite failed: Cannot invite organizer");
+                throw new IllegalArgumentException("Cannot invite yourself as organizer");
             }
 
-            // Save event
-            Event savedEvent = eventRepository.save(event);
-            logger.info("Successfully invited {} users to event ID: {}", invitationDTO.getUserIds().size(), event.getId());
+            Event savedEvent = touchAndFlush(event);
+
+            // Add invited users (only those not invited yet, one INSERT for all of them)
+            Set<Long> currentInvitees = new HashSet<>(eventRepository.findInvitedUserIds(event.getId()));
+            InvitationDelta delta = applyInvitationDelta(event.getId(), currentInvitees, invitationDTO.getUserIds(), Set.of());
+            applyFeedDelta(savedEvent.getId(), delta);
+            logger.info("Successfully invited {} users to event ID: {}", delta.added().size(), event.getId());
+            eventPublisher.publishEvent(EventChangedEvent.updated(savedEvent, delta.invitees()));
+            entityCache.evictEvent(savedEvent.getId());
 
             // Record activity
             activityHistoryService.recordActivity(ActivityType.EVENT_UPDATE, request);
 
-            return eventMapper.toResponseDTOWithInvitedUsers(savedEvent);
+            return getOrganizerView(savedEvent.getId());
 
         } catch (Exception e) {
             applicationLogger.logError(logger, "Failed to invite users to event", e);
@@ -554,9 +1048,10 @@ public class EventService {
     /**
      * Remove users from a PRIVATE event
      * Only organizer can remove invited users
+     * expectedVersion (If-Match) must match the current version when given
      */
     @Transactional
-    public EventResponseDTO removeUsersFromEvent(EventInvitationDTO invitationDTO, HttpServletRequest request) {
+    public EventResponseDTO removeUsersFromEvent(EventInvitationDTO invitationDTO, Long expectedVersion, HttpServletRequest request) {
         try {
             logger.info("Removing users from event ID: {}", invitationDTO.getEventId());
 
@@ -565,16 +1060,15 @@ public class EventService {
                     .orElseThrow(() -> new NoSuchElementException("Event not found with id: " + invitationDTO.getEventId()));
 
             // Get current user
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUsername = authentication.getName();
-            User currentUser = userRepository.findByUsername(currentUsername)
-                    .orElseThrow(() -> new NoSuchElementException("Current user not found"));
+            String currentUsername = currentUserProvider.getCurrentUsername();
+            User currentUser = currentUserProvider.getCurrentUserReference();
 
             // Validation 1: Only organizer can remove users
             if (!event.isOrganizer(currentUser)) {
                 logger.warn("Remove failed: User {} is not the organizer", currentUsername);
                 throw new SecurityException("Only the event organizer can remove invited users");
             }
+            ResourceVersion.checkIfMatch("Event", event.getId(), event.getVersion(), expectedVersion);
 
             // Validation 2: Can only remove from PRIVATE events
             if (event.getEventType() != EventType.PRIVATE) {
@@ -582,25 +1076,102 @@ public class EventService {
                 throw new IllegalStateException("Can only remove users from PRIVATE events");
             }
 
-            // Remove invited users
-            for (Long userId : invitationDTO.getUserIds()) {
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new NoSuchElementException("User not found with id: " + userId));
+            Event savedEvent = touchAndFlush(event);
+            LocalDateTime now = savedEvent.getUpdatedAt();
+
+            // Remove invited users with a single DELETE (only those actually invited)
+            Set<Long> currentInvitees = new HashSet<>(eventRepository.findInvitedUserIds(event.getId()));
+            InvitationDelta delta = applyInvitationDelta(event.getId(), currentInvitees, Set.of(), invitationDTO.getUserIds());
+            recordRemovals(event.getId(), delta.removed(), now);
+            applyFeedDelta(savedEvent.getId(), delta);
+            logger.info("Successfully removed {} users from event ID: {}", delta.removed().size(), event.getId());
+            eventPublisher.publishEvent(EventChangedEvent.updated(savedEvent, savedEvent.getEventType(),
+                    delta.invitees(), delta.removed()));
+            entityCache.evictEvent(savedEvent.getId());
+
+            // Record activity
+            activityHistoryService.recordActivity(ActivityType.EVENT_UPDATE, request);
+
+            return getOrganizerView(savedEvent.getId());
+
+        } catch (Exception e) {
+            applicationLogger.logError(logger, "Failed to remove users from event", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Invite and remove users of a PRIVATE event in one request
+     * Only organizer can change invitations; only the listed users' rows are written
+     * expectedVersion (If-Match) must match the current version when given
+     */
+    @Transactional
+    public EventResponseDTO updateInvitations(EventInvitationPatchDTO patchDTO, Long expectedVersion, HttpServletRequest request) {
+        try {
+            logger.info("Updating invitations of event ID: {}", patchDTO.getEventId());
+
+            Set<Long> addUserIds = patchDTO.getAddUserIds() != null ? patchDTO.getAddUserIds() : Set.of();
+            Set<Long> removeUserIds = patchDTO.getRemoveUserIds() != null ? patchDTO.getRemoveUserIds() : Set.of();
+
+            // Find event
+            Event event = eventRepository.findById(patchDTO.getEventId())
+                    .orElseThrow(() -> new NoSuchElementException("Event not found with id: " + patchDTO.getEventId()));
+
+            // Get current user
+            String currentUsername = currentUserProvider.getCurrentUsername();
+            User currentUser = currentUserProvider.getCurrentUserReference();
+
+            // Validation 1: Only organizer can change invitations
+            if (!event.isOrganizer(currentUser)) {
+                logger.warn("Invitation update failed: User {} is not the organizer", currentUsername);
+                throw new SecurityException("Only the event organizer can change invitations");
+            }
+            ResourceVersion.checkIfMatch("Event", event.getId(), event.getVersion(), expectedVersion);
+
+            // Validation 2: Only PRIVATE events have invitations
+            if (event.getEventType() != EventType.PRIVATE) {
+                logger.warn("Invitation update failed: Event is not PRIVATE");
+                throw new IllegalStateException("Can only change invitations of PRIVATE events");
+            }
 
-                event.removeInvitedUser(user);
+            // Validation 3: Something to do, and no user both added and removed
+            if (addUserIds.isEmpty() && removeUserIds.isEmpty()) {
+                logger.warn("Invitation update failed: No user IDs given");
+                throw new IllegalArgumentException("At least one user ID to add or remove is required");
             }
 
-            // Save event
-            Event savedEvent = eventRepository.save(event);
-            logger.info("Successfully removed {} users from event ID: {}", invitationDTO.getUserIds().size(), event.getId());
+            Set<Long> conflicting = new TreeSet<>(addUserIds);
+            conflicting.retainAll(removeUserIds);
+            if (!conflicting.isEmpty()) {
+                logger.warn("Invitation update failed: Users both added and removed: {}", conflicting);
+                throw new IllegalArgumentException("Users cannot be both added and removed: " + conflicting);
+            }
+
+            if (addUserIds.contains(currentUser.getId())) {
+                logger.warn("Invitation update failed: Cannot invite organizer");
+                throw new IllegalArgumentException("Cannot invite yourself as organizer");
+            }
+
+            Event savedEvent = touchAndFlush(event);
+            LocalDateTime now = savedEvent.getUpdatedAt();
+
+            Set<Long> currentInvitees = new HashSet<>(eventRepository.findInvitedUserIds(event.getId()));
+            InvitationDelta delta = applyInvitationDelta(event.getId(), currentInvitees, addUserIds, removeUserIds);
+            recordRemovals(event.getId(), delta.removed(), now);
+            applyFeedDelta(savedEvent.getId(), delta);
+            logger.info("Invitations of event ID {} updated: {} added, {} removed",
+                    event.getId(), delta.added().size(), delta.removed().size());
+            eventPublisher.publishEvent(EventChangedEvent.updated(savedEvent, savedEvent.getEventType(),
+                    delta.invitees(), delta.removed()));
+            entityCache.evictEvent(savedEvent.getId());
 
             // Record activity
             activityHistoryService.recordActivity(ActivityType.EVENT_UPDATE, request);
 
-            return eventMapper.toResponseDTOWithInvitedUsers(savedEvent);
+            return getOrganizerView(savedEvent.getId());
 
         } catch (Exception e) {
-            applicationLogger.logError(logger, "Failed to remove users from event", e);
+            applicationLogger.logError(logger, "Failed to update invitations of event", e);
             throw e;
         }
     }
@@ -609,13 +1180,14 @@ public class EventService {
 
     /**
      * Get all PUBLIC events
+     * Served from the public feed microcache (concurrent requests share one query)
      */
     public List<EventResponseDTO> getAllPublicEvents() {
         try {
             logger.debug("Fetching all public events");
-            List<Event> publicEvents = eventRepository.findAllPublicEvents();
+            List<EventResponseDTO> publicEvents = publicEventFeedCache.get();
             logger.debug("Found {} public events", publicEvents.size());
-            return eventMapper.toResponseDTOList(publicEvents);
+            return publicEvents;
         } catch (Exception e) {
             applicationLogger.logError(logger, "Failed to fetch public events", e);
             throw new RuntimeException("Failed to fetch public events: " + e.getMessage(), e);
@@ -627,19 +1199,16 @@ public class EventService {
      */
     public List<EventResponseDTO> getMyOrganizedEvents() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUsername = authentication.getName();
-            User currentUser = userRepository.findByUsername(currentUsername)
-                    .orElseThrow(() -> new NoSuchElementException("Current user not found"));
+            String currentUsername = currentUserProvider.getCurrentUsername();
+            Long currentUserId = currentUserProvider.getCurrentUserId();
 
             logger.debug("Fetching organized events for user: {}", currentUsername);
-            List<Event> myEvents = eventRepository.findByOrganizerId(currentUser.getId());
+            List<EventResponseDTO> myEvents = eventRepository.findOrganizedEventViews(currentUserId);
             logger.debug("Found {} organized events", myEvents.size());
 
             // Show full details for own events
-            return myEvents.stream()
-                    .map(eventMapper::toResponseDTOWithInvitedUsers)
-                    .toList();
+            attachInvitedUsers(myEvents);
+            return myEvents;
         } catch (Exception e) {
             applicationLogger.logError(logger, "Failed to fetch organized events", e);
             throw new RuntimeException("Failed to fetch organized events: " + e.getMessage(), e);
@@ -651,16 +1220,14 @@ public class EventService {
      */
     public List<EventResponseDTO> getMyInvitedEvents() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUsername = authentication.getName();
-            User currentUser = userRepository.findByUsername(currentUsername)
-                    .orElseThrow(() -> new NoSuchElementException("Current user not found"));
+            String currentUsername = currentUserProvider.getCurrentUsername();
+            Long currentUserId = currentUserProvider.getCurrentUserId();
 
             logger.debug("Fetching invited events for user: {}", currentUsername);
-            List<Event> invitedEvents = eventRepository.findEventsByInvitedUserId(currentUser.getId());
+            List<EventResponseDTO> invitedEvents = eventRepository.findInvitedEventViews(currentUserId);
             logger.debug("Found {} invited events", invitedEvents.size());
 
-            return eventMapper.toResponseDTOList(invitedEvents);
+            return invitedEvents;
         } catch (Exception e) {
             applicationLogger.logError(logger, "Failed to fetch invited events", e);
             throw new RuntimeException("Failed to fetch invited events: " + e.getMessage(), e);
@@ -672,17 +1239,15 @@ public class EventService {
      */
     public List<EventResponseDTO> getUpcomingEvents() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUsername = authentication.getName();
-            User currentUser = userRepository.findByUsername(currentUsername)
-                    .orElseThrow(() -> new NoSuchElementException("Current user not found"));
+            String currentUsername = currentUserProvider.getCurrentUsername();
+            Long currentUserId = currentUserProvider.getCurrentUserId();
 
             LocalDate today = LocalDate.now();
             logger.debug("Fetching upcoming events for user: {}", currentUsername);
-            List<Event> upcomingEvents = eventRepository.findUpcomingEventsForUser(currentUser.getId(), today);
+            List<EventResponseDTO> upcomingEvents = upcomingFeed(currentUserId, today, EventCursor.origin(), Pageable.unpaged());
             logger.debug("Found {} upcoming events", upcomingEvents.size());
 
-            return eventMapper.toResponseDTOList(upcomingEvents);
+            return upcomingEvents;
         } catch (Exception e) {
             applicationLogger.logError(logger, "Failed to fetch upcoming events", e);
             throw new RuntimeException("Failed to fetch upcoming events: " + e.getMessage(), e);
@@ -696,9 +1261,9 @@ public class EventService {
         try {
             LocalDate today = LocalDate.now();
             logger.debug("Fetching past events");
-            List<Event> pastEvents = eventRepository.findByEventDateBefore(today);
+            List<EventResponseDTO> pastEvents = eventRepository.findPastEventViews(today);
             logger.debug("Found {} past events", pastEvents.size());
-            return eventMapper.toResponseDTOList(pastEvents);
+            return pastEvents;
         } catch (Exception e) {
             applicationLogger.logError(logger, "Failed to fetch past events", e);
             throw new RuntimeException("Failed to fetch past events: " + e.getMessage(), e);
@@ -712,9 +1277,9 @@ public class EventService {
         try {
             LocalDate today = LocalDate.now();
             logger.debug("Fetching today's events");
-            List<Event> todaysEvents = eventRepository.findByEventDate(today);
+            List<EventResponseDTO> todaysEvents = eventRepository.findEventViewsOnDate(today);
             logger.debug("Found {} today's events", todaysEvents.size());
-            return eventMapper.toResponseDTOList(todaysEvents);
+            return todaysEvents;
         } catch (Exception e) {
             applicationLogger.logError(logger, "Failed to fetch today's events", e);
             throw new RuntimeException("Failed to fetch today's events: " + e.getMessage(), e);
@@ -723,16 +1288,685 @@ public class EventService {
 
     /**
      * Get events by location
+     * Only events the current user can access are returned
      */
     public List<EventResponseDTO> getEventsByLocation(String location) {
         try {
             logger.debug("Fetching events by location: {}", location);
-            List<Event> events = eventRepository.findByLocationContainingIgnoreCase(location);
+            Long currentUserId = currentUserProvider.getCurrentUserId();
+
+            List<EventResponseDTO> events;
+            if (eventSearchIndex.isEnabled()) {
+                // Token/prefix match on the location field of the search index (no LIKE '%...%' table scan)
+                List<EventSearchIndex.Hit> hits = eventSearchIndex.search(location, EnumSet.of(EventSearchField.LOCATION));
+                events = loadMatchingHits(hits, location, EnumSet.of(EventSearchField.LOCATION), currentUserId, Integer.MAX_VALUE);
+            } else {
+                events = eventRepository.findAccessibleEventViewsByLocation(likePattern(location), currentUserId);
+            }
             logger.debug("Found {} events for location: {}", events.size(), location);
-            return eventMapper.toResponseDTOList(events);
+            return events;
         } catch (Exception e) {
             applicationLogger.logError(logger, "Failed to fetch events by location", e);
             throw new RuntimeException("Failed to fetch events by location: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Full-text search over title, location and description
+     * Ranked by relevance, filtered to events the current user can access, then paginated
+     */
+    public List<EventResponseDTO> searchEvents(String query, int page, int size) {
+        try {
+            if (query == null || query.isBlank()) {
+                throw new IllegalArgumentException("Search query must not be empty");
+            }
+            if (page < 0) {
+                throw new IllegalArgumentException("Page number must not be negative");
+            }
+
+            int pageSize = checkPageSize(size);
+            Long currentUserId = currentUserProvider.getCurrentUserId();
+            logger.debug("Searching events - query: '{}', page: {}, size: {}", query, page, pageSize);
+
+            if (!eventSearchIndex.isEnabled()) {
+                // Without the index: substring match in date order, no ranking
+                List<EventResponseDTO> events = eventRepository.searchAccessibleEventViews(likePattern(query),
+                        currentUserId, PageRequest.of(page, pageSize));
+                logger.debug("Search '{}' returned {} events from the database", query, events.size());
+                return events;
+            }
+
+            List<EventSearchIndex.Hit> hits = eventSearchIndex.search(query, EnumSet.allOf(EventSearchField.class));
+            int wanted = (page + 1) * pageSize;
+            List<EventResponseDTO> accessible = loadMatchingHits(hits, query, EnumSet.allOf(EventSearchField.class),
+                    currentUserId, wanted);
+
+            int start = Math.min(page * pageSize, accessible.size());
+            List<EventResponseDTO> events = new ArrayList<>(accessible.subList(start, Math.min(wanted, accessible.size())));
+            logger.debug("Search '{}' matched {} events, returning {}", query, hits.size(), events.size());
+            return events;
+
+        } catch (IllegalArgumentException e) {
+            applicationLogger.logError(logger, "Event search failed: Invalid query", e);
+            throw e;
+        } catch (Exception e) {
+            applicationLogger.logError(logger, "Event search failed", e);
+            throw new RuntimeException("Failed to search events: " + e.getMessage(), e);
+        }
+    }
+
+    // Walk index hits in rank order, loading them in batches, until `wanted` accessible events are found
+    // The index only sees this instance's commits, so each loaded row is checked again: it must still match
+    // the query, and access is decided from its current type and organizer and the stored invitations
+    private List<EventResponseDTO> loadMatchingHits(List<EventSearchIndex.Hit> hits, String query,
+                                                    Set<EventSearchField> fields, Long userId, int wanted) {
+        List<EventResponseDTO> accessible = new ArrayList<>();
+        for (int from = 0; from < hits.size() && accessible.size() < wanted; from += SEARCH_ACCESS_BATCH) {
+            List<Long> ids = hits.subList(from, Math.min(from + SEARCH_ACCESS_BATCH, hits.size())).stream()
+                    .map(EventSearchIndex.Hit::getEventId)
+                    .toList();
+            List<EventResponseDTO> batch = loadInOrder(ids).stream()
+                    .filter(dto -> EventSearchIndex.matches(query, searchedTexts(dto, fields)))
+                    .toList();
+
+            // Only PRIVATE events organized by someone else need an invitation check
+            List<Long> probe = batch.stream()
+                    .filter(dto -> dto.getEventType() == EventType.PRIVATE && !dto.getOrganizer().getId().equals(userId))
+                    .map(EventResponseDTO::getId)
+                    .toList();
+            Set<Long> invited = probe.isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(eventRepository.findInvitedEventIdsAmong(userId, probe));
+
+            for (EventResponseDTO dto : batch) {
+                if (accessible.size() < wanted && (dto.getEventType() == EventType.PUBLIC
+                        || dto.getOrganizer().getId().equals(userId) || invited.contains(dto.getId()))) {
+                    accessible.add(dto);
+                }
+            }
+        }
+        return accessible;
+    }
+
+    private List<String> searchedTexts(EventResponseDTO dto, Set<EventSearchField> fields) {
+        List<String> texts = new ArrayList<>();
+        if (fields.contains(EventSearchField.TITLE)) {
+            texts.add(dto.getTitle());
+        }
+        if (fields.contains(EventSearchField.LOCATION)) {
+            texts.add(dto.getLocation());
+        }
+        if (fields.contains(EventSearchField.DESCRIPTION)) {
+            texts.add(dto.getDescription());
+        }
+        return texts;
+    }
+
+    // Case-insensitive substring pattern for the database fallback
+    private String likePattern(String text) {
+        return "%" + text.trim().toLowerCase(Locale.ROOT) + "%";
+    }
+
+    // Load listing projections for ranked IDs and keep the rank order
+    private List<EventResponseDTO> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, EventResponseDTO> byId = new HashMap<>();
+        eventRepository.findEventViewsByIds(ids).forEach(dto -> byId.put(dto.getId(), dto));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Find existing events overlapping a time slot
+     * Reports venue bookings at the given location and, per user, events they organize or are invited to
+     * Checks the current user when no user IDs are given
+     */
+    public List<EventConflictDTO> findConflicts(LocalDate date, LocalTime startTime, LocalTime endTime,
+                                                String location, Set<Long> userIds, Long excludeEventId) {
+        try {
+            if (!endTime.isAfter(startTime)) {
+                throw new IllegalArgumentException("End time must be after start time");
+            }
+
+            Long currentUserId = currentUserProvider.getCurrentUserId();
+            Set<Long> participants = userIds == null || userIds.isEmpty() ? Set.of(currentUserId) : userIds;
+            logger.debug("Checking conflicts on {} {}-{} (location: {}, users: {})", date, startTime, endTime, location, participants.size());
+
+            List<EventConflictDTO> conflicts = new ArrayList<>();
+            if (location != null && !location.isBlank()) {
+                for (EventIntervalIndex.Booking booking : eventIntervalIndex.findVenueConflicts(location, date, startTime, endTime, excludeEventId)) {
+                    conflicts.add(toConflictDTO(ConflictType.VENUE, null, booking, currentUserId));
+                }
+            }
+            eventIntervalIndex.findParticipantConflicts(participants, date, startTime, endTime, excludeEventId)
+                    .forEach((userId, bookings) -> bookings.forEach(booking ->
+                            conflicts.add(toConflictDTO(ConflictType.PARTICIPANT, userId, booking, currentUserId))));
+
+            logger.debug("Found {} conflicts", conflicts.size());
+            return conflicts;
+
+        } catch (IllegalArgumentException e) {
+            applicationLogger.logError(logger, "Conflict check failed: Invalid slot", e);
+            throw e;
+        } catch (Exception e) {
+            applicationLogger.logError(logger, "Conflict check failed", e);
+            throw new RuntimeException("Failed to check conflicts: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Busy time per user and the slots in the window when all of them are free
+     * Loads every event the users organize or are invited to in one query, then merges intervals with a sweep
+     * Open to every authenticated caller for any user by design: only times leave here, never titles or locations
+     */
+    public FreeBusyResponseDTO getFreeBusy(FreeBusyRequestDTO requestDTO) {
+        try {
+            LocalDate fromDate = requestDTO.getFromDate();
+            LocalDate toDate = requestDTO.getToDate();
+            if (toDate.isBefore(fromDate)) {
+                throw new IllegalArgumentException("To date must not be before from date");
+            }
+            int days = (int) (toDate.toEpochDay() - fromDate.toEpochDay()) + 1;
+            if (days > FREE_BUSY_MAX_DAYS) {
+                throw new IllegalArgumentException("Free/busy window cannot exceed " + FREE_BUSY_MAX_DAYS + " days");
+            }
+
+            long dayStart = requestDTO.getDayStart() == null ? 0 : startMinute(requestDTO.getDayStart());
+            long dayEnd = requestDTO.getDayEnd() == null ? MINUTES_PER_DAY : endMinute(requestDTO.getDayEnd());
+            if (dayEnd <= dayStart) {
+                throw new IllegalArgumentException("Day end must be after day start");
+            }
+            int minDuration = requestDTO.getMinDurationMinutes() == null
+                    ? FREE_BUSY_DEFAULT_MIN_DURATION : requestDTO.getMinDurationMinutes();
+
+            Set<Long> userIds = requestDTO.getUserIds();
+            requireExistingUsers(userIds);
+
+            long started = System.nanoTime();
+            List<Long> users = new ArrayList<>(new TreeSet<>(userIds));
+            List<Object[]> rows = eventRepository.findBusyRows(users, fromDate, toDate);
+
+            // One sort groups intervals by user and orders them by start within each user
+            long[] intervals = packBusyRows(rows, users, fromDate);
+            Arrays.sort(intervals);
+
+            Map<Long, List<TimeSlotDTO>> busy = new LinkedHashMap<>();
+            users.forEach(userId -> busy.put(userId, new ArrayList<>()));
+            long[] merged = mergePerUser(intervals, users, busy, fromDate);
+
+            // Everyone is free exactly where nobody's merged busy time reaches
+            Arrays.sort(merged);
+            List<TimeSlotDTO> freeSlots = commonFreeSlots(merged, days, dayStart, dayEnd, minDuration, fromDate);
+
+            logger.debug("Free/busy for {} users over {} days: {} events, {} free slots, {} ms",
+                    users.size(), days, rows.size(), freeSlots.size(), (System.nanoTime() - started) / 1_000_000);
+            return new FreeBusyResponseDTO(fromDate, toDate, freeSlots, busy);
+
+        } catch (NoSuchElementException e) {
+            applicationLogger.logError(logger, "Free/busy failed: User not found", e);
+            throw e;
+        } catch (IllegalArgumentException e) {
+            applicationLogger.logError(logger, "Free/busy failed: Invalid window", e);
+            throw e;
+        } catch (Exception e) {
+            applicationLogger.logError(logger, "Free/busy failed", e);
+            throw new RuntimeException("Failed to compute free/busy: " + e.getMessage(), e);
+        }
+    }
+
+    // ========== CONFLICT HELPERS ==========
+
+    // Venue double-booking follows event-conflicts.venue-policy; organizer/invitee overlaps are only flagged in the log
+    private void checkConflicts(EventRequestDTO requestDTO, Long eventId, Long organizerId) {
+        if (venuePolicy == ConflictPolicy.REJECT) {
+            // Read from the database under the write transaction: the interval index lags other instances' commits
+            String venue = EventIntervalIndex.venueKey(requestDTO.getLocation());
+            Event clash = eventRepository.findOverlappingEventsForUpdate(requestDTO.getEventDate(),
+                            requestDTO.getStartTime(), requestDTO.getEndTime(), eventId).stream()
+                    .filter(event -> EventIntervalIndex.venueKey(event.getLocation()).equals(venue))
+                    .findFirst()
+                    .orElse(null);
+            if (clash != null) {
+                logger.warn("Event rejected: Location '{}' already booked on {} {}-{} by event ID: {}",
+                        requestDTO.getLocation(), clash.getEventDate(), clash.getStartTime(), clash.getEndTime(), clash.getId());
+                throw new IllegalStateException("Location '" + requestDTO.getLocation() + "' is already booked on "
+                        + clash.getEventDate() + " from " + clash.getStartTime() + " to " + clash.getEndTime());
+            }
+        } else if (venuePolicy == ConflictPolicy.WARN) {
+            List<EventIntervalIndex.Booking> clashes = eventIntervalIndex.findVenueConflicts(requestDTO.getLocation(),
+                    requestDTO.getEventDate(), requestDTO.getStartTime(), requestDTO.getEndTime(), eventId);
+            if (!clashes.isEmpty()) {
+                logger.warn("Location '{}' double-booked on {}: overlaps {} event(s)",
+                        requestDTO.getLocation(), requestDTO.getEventDate(), clashes.size());
+            }
+        }
+
+        Set<Long> participants = new HashSet<>();
+        participants.add(organizerId);
+        if (requestDTO.getEventType() == EventType.PRIVATE && requestDTO.getInvitedUserIds() != null) {
+            participants.addAll(requestDTO.getInvitedUserIds());
+        }
+        Map<Long, List<EventIntervalIndex.Booking>> busy = eventIntervalIndex.findParticipantConflicts(participants,
+                requestDTO.getEventDate(), requestDTO.getStartTime(), requestDTO.getEndTime(), eventId);
+        if (!busy.isEmpty()) {
+            logger.warn("Event '{}' overlaps other events for {} participant(s): {}",
+                    requestDTO.getTitle(), busy.size(), busy.keySet());
+        }
+    }
+
+    // PRIVATE events the caller is not part of only show as busy time
+    private EventConflictDTO toConflictDTO(ConflictType type, Long userId, EventIntervalIndex.Booking booking, Long currentUserId) {
+        boolean visible = booking.getEventType() == EventType.PUBLIC || booking.involves(currentUserId);
+        return new EventConflictDTO(type, userId, booking.getEventId(),
+                visible ? booking.getTitle() : null,
+                visible ? booking.getLocation() : null,
+                booking.getEventDate(), booking.getStartTime(), booking.getEndTime());
+    }
+
+    // ========== FREE/BUSY HELPERS ==========
+
+    private long[] packBusyRows(List<Object[]> rows, List<Long> users, LocalDate fromDate) {
+        Map<Long, Integer> userIndex = new HashMap<>();
+        for (int i = 0; i < users.size(); i++) {
+            userIndex.put(users.get(i), i);
+        }
+
+        long[] intervals = new long[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            long dayOffset = (((LocalDate) row[1]).toEpochDay() - fromDate.toEpochDay()) * MINUTES_PER_DAY;
+            long start = dayOffset + startMinute((LocalTime) row[2]);
+            long end = dayOffset + endMinute((LocalTime) row[3]);
+            intervals[i] = (long) userIndex.get((Long) row[0]) << (2 * MINUTE_BITS) | start << MINUTE_BITS | end;
+        }
+        return intervals;
+    }
+
+    /**
+     * Sweep each user's sorted intervals, joining overlapping or touching ones into busy slots
+     * Returns the merged intervals of all users as [start][end] packs for the common free sweep
+     */
+    private long[] mergePerUser(long[] intervals, List<Long> users, Map<Long, List<TimeSlotDTO>> busy, LocalDate fromDate) {
+        long[] merged = new long[intervals.length];
+        int count = 0;
+        long currentUser = -1;
+        long start = 0;
+        long end = 0;
+
+        for (long interval : intervals) {
+            long user = interval >>> (2 * MINUTE_BITS);
+            long nextStart = (interval >>> MINUTE_BITS) & MINUTE_MASK;
+            long nextEnd = interval & MINUTE_MASK;
+            // Events never cross midnight, so a merged slot stays within one day
+            if (user == currentUser && nextStart <= end && nextStart / MINUTES_PER_DAY == start / MINUTES_PER_DAY) {
+                end = Math.max(end, nextEnd);
+                continue;
+            }
+            if (currentUser >= 0) {
+                busy.get(users.get((int) currentUser)).add(toTimeSlot(fromDate, start, end));
+                merged[count++] = start << MINUTE_BITS | end;
+            }
+            currentUser = user;
+            start = nextStart;
+            end = nextEnd;
+        }
+        if (currentUser >= 0) {
+            busy.get(users.get((int) currentUser)).add(toTimeSlot(fromDate, start, end));
+            merged[count++] = start << MINUTE_BITS | end;
+        }
+        return Arrays.copyOf(merged, count);
+    }
+
+    // Walk each day's window left to right over busy intervals sorted by start; gaps long enough are free slots
+    private List<TimeSlotDTO> commonFreeSlots(long[] busy, int days, long dayStart, long dayEnd,
+                                              int minDuration, LocalDate fromDate) {
+        List<TimeSlotDTO> freeSlots = new ArrayList<>();
+        int next = 0;
+        for (int day = 0; day < days; day++) {
+            long cursor = day * MINUTES_PER_DAY + dayStart;
+            long windowEnd = day * MINUTES_PER_DAY + dayEnd;
+
+            while (next < busy.length && (busy[next] & MINUTE_MASK) <= cursor) {
+                next++;
+            }
+            for (int i = next; i < busy.length && cursor < windowEnd; i++) {
+                long start = busy[i] >>> MINUTE_BITS;
+                if (start >= windowEnd) {
+                    break;
+                }
+                if (start - cursor >= minDuration) {
+                    freeSlots.add(toTimeSlot(fromDate, cursor, start));
+                }
+                cursor = Math.max(cursor, busy[i] & MINUTE_MASK);
+            }
+            if (windowEnd - cursor >= minDuration) {
+                freeSlots.add(toTimeSlot(fromDate, cursor, windowEnd));
+            }
+        }
+        return freeSlots;
+    }
+
+    private static TimeSlotDTO toTimeSlot(LocalDate fromDate, long start, long end) {
+        long day = start / MINUTES_PER_DAY;
+        long endOfDay = end - day * MINUTES_PER_DAY;
+        return new TimeSlotDTO(fromDate.plusDays(day),
+                LocalTime.ofSecondOfDay((start - day * MINUTES_PER_DAY) * 60),
+                endOfDay >= MINUTES_PER_DAY ? END_OF_DAY : LocalTime.ofSecondOfDay(endOfDay * 60));
+    }
+
+    private static long startMinute(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+
+    // Rounded up, so an end of 23:59:59 counts as midnight
+    private static long endMinute(LocalTime time) {
+        return (time.toSecondOfDay() + 59) / 60;
+    }
+
+    // ========== INVITATION HELPERS ==========
+
+    /**
+     * Invitation changes alone do not dirty the row - bump updatedAt so cached representations roll over
+     * Flushed before any invitation is written: concurrent writers of this event wait on the row and then fail the version check
+     */
+    private Event touchAndFlush(Event event) {
+        event.setUpdatedAt(LocalDateTime.now());
+        return eventRepository.saveAndFlush(event);
+    }
+
+    // Load all invitees in one query; every missing ID is reported in a single error
+    private Set<User> resolveInvitees(Collection<Long> userIds) {
+        Set<Long> ids = new HashSet<>(userIds);
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Set<User> users = new HashSet<>(userRepository.findAllWithRoleByIdIn(ids));
+        if (users.size() != ids.size()) {
+            users.forEach(user -> ids.remove(user.getId()));
+            throw missingUsers(ids);
+        }
+        return users;
+    }
+
+    // Same check as resolveInvitees when only the IDs are needed
+    private void requireExistingUsers(Set<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> existing = userRepository.findExistingIds(userIds);
+        if (existing.size() != userIds.size()) {
+            Set<Long> missing = new TreeSet<>(userIds);
+            existing.forEach(missing::remove);
+            throw missingUsers(missing);
+        }
+    }
+
+    // Invitee changes actually written (requested IDs minus no-ops) and the invitee set they leave behind
+    private record InvitationDelta(Set<Long> added, Set<Long> removed, Set<Long> invitees) {
+    }
+
+    // Diff the requested changes against the stored invitations and write only the difference:
+    // one INSERT for new invitees and one DELETE for dropped ones, whatever the size of the event
+    private InvitationDelta applyInvitationDelta(Long eventId, Set<Long> current,
+                                                 Collection<Long> add, Collection<Long> remove) {
+        Set<Long> added = new HashSet<>(add);
+        added.removeAll(current);
+        Set<Long> removed = new HashSet<>(remove);
+        removed.retainAll(current);
+
+        // IDs that are not invitees must still belong to existing users (checked with one query)
+        Set<Long> unknown = new HashSet<>(added);
+        remove.stream().filter(userId -> !current.contains(userId)).forEach(unknown::add);
+        requireExistingUsers(unknown);
+
+        if (!removed.isEmpty()) {
+            eventRepository.deleteInvitations(eventId, removed);
+        }
+        if (!added.isEmpty()) {
+            eventRepository.insertInvitations(eventId, added);
+        }
+
+        Set<Long> invitees = new HashSet<>(current);
+        invitees.removeAll(removed);
+        invitees.addAll(added);
+        return new InvitationDelta(added, removed, invitees);
+    }
+
+    private NoSuchElementException missingUsers(Collection<Long> missingIds) {
+        if (missingIds.size() == 1) {
+            return new NoSuchElementException("User not found with id: " + missingIds.iterator().next());
+        }
+        return new NoSuchElementException("Users not found with ids: " + new TreeSet<>(missingIds));
+    }
+
+    // ========== VALIDATION HELPERS ==========
+
+    /**
+     * Field rules shared by createEvent and importEvents (everything except title uniqueness and invitee lookup)
+     * Throws IllegalArgumentException describing the first rule that fails
+     */
+    private void validateEventRequest(EventRequestDTO requestDTO) {
+        // Validation 2: Event location is required
+        if (requestDTO.getLocation() == null || requestDTO.getLocation().trim().isEmpty()) {
+            logger.warn("Event creation failed: Location is required");
+            throw new IllegalArgumentException("Event location is required");
+        }
+
+        // Validation 3: Event date cannot be in the past
+        if (requestDTO.getEventDate().isBefore(LocalDate.now())) {
+            logger.warn("Event creation failed: Event date {} is in the past", requestDTO.getEventDate());
+            throw new IllegalArgumentException("Event date cannot be in the past");
+        }
+
+        // Validation 4: If event is today, start time cannot be in the past
+        if (requestDTO.getEventDate().isEqual(LocalDate.now()) &&
+                requestDTO.getStartTime().isBefore(LocalTime.now())) {
+            logger.warn("Event creation failed: Start time {} is in the past for today's event", requestDTO.getStartTime());
+            throw new IllegalArgumentException("Event start time cannot be in the past for today's event");
+        }
+
+        // Validation 5: End time must be after start time
+        if (requestDTO.getEndTime().isBefore(requestDTO.getStartTime())) {
+            logger.warn("Event creation failed: End time {} is before start time {}",
+                    requestDTO.getEndTime(), requestDTO.getStartTime());
+            throw new IllegalArgumentException("Event end time must be after start time");
+        }
+
+        // Validation 6: End time cannot be equal to start time
+        if (requestDTO.getEndTime().equals(requestDTO.getStartTime())) {
+            logger.warn("Event creation failed: End time equals start time");
+            throw new IllegalArgumentException("Event end time must be different from start time");
+        }
+
+        // Validation 7: Event duration should be reasonable (at least 30 minutes)
+        long durationMinutes = java.time.Duration.between(
+                requestDTO.getStartTime(),
+                requestDTO.getEndTime()
+        ).toMinutes();
+
+        if (durationMinutes < 30) {
+            logger.warn("Event creation failed: Duration {} minutes is less than 30", durationMinutes);
+            throw new IllegalArgumentException("Event duration must be at least 30 minutes");
+        }
+
+        // Validation 8: Event duration should not exceed 24 hours
+        if (durationMinutes > 1440) {
+            logger.warn("Event creation failed: Duration {} minutes exceeds 24 hours", durationMinutes);
+            throw new IllegalArgumentException("Event duration cannot exceed 24 hours (single day event)");
+        }
+
+        // Validation 9: For PRIVATE events, invited users list is required
+        if (requestDTO.getEventType() == EventType.PRIVATE) {
+            if (requestDTO.getInvitedUserIds() == null || requestDTO.getInvitedUserIds().isEmpty()) {
+                logger.warn("Event creation failed: PRIVATE event must have invited users");
+                throw new IllegalArgumentException("PRIVATE events must have at least one invited user");
+            }
+        }
+    }
+
+    // ========== DELTA SYNC HELPERS ==========
+
+    // Removal for everyone (userIds == null) or one tombstone per user who lost access
+    private void recordRemovals(Long eventId, Collection<Long> userIds, LocalDateTime removedAt) {
+        if (userIds == null) {
+            eventRemovalRepository.save(new EventRemoval(eventId, null, removedAt));
+        } else if (!userIds.isEmpty()) {
+            eventRemovalRepository.saveAll(userIds.stream()
+                    .map(userId -> new EventRemoval(eventId, userId, removedAt))
+                    .toList());
+        }
+    }
+
+    // ========== UPCOMING FEED HELPERS ==========
+
+    // Rebuild an event's feed rows from its flushed state (PUBLIC events have none)
+    private void refreshFeed(Long eventId) {
+        entityManager.flush();
+        userEventFeedRepository.deleteForEvents(List.of(eventId));
+        userEventFeedRepository.insertForEvents(List.of(eventId));
+    }
+
+    // Feed rows for the invitees a delta touched (new rows copy the event's flushed date and time)
+    private void applyFeedDelta(Long eventId, InvitationDelta delta) {
+        if (!delta.removed().isEmpty()) {
+            userEventFeedRepository.deleteForInvitees(eventId, delta.removed());
+        }
+        if (!delta.added().isEmpty()) {
+            entityManager.flush();
+            userEventFeedRepository.insertForInvitees(eventId, delta.added());
+        }
+    }
+
+    // The user's materialized PRIVATE feed merged with the shared PUBLIC range, both read in feed order
+    private List<EventResponseDTO> upcomingFeed(Long userId, LocalDate today, EventCursor after, Pageable limit) {
+        List<EventResponseDTO> own = eventRepository.findFeedEventsAfter(userId, today,
+                after.getEventDate(), after.getStartTime(), after.getId(), limit);
+        List<EventResponseDTO> shared = eventRepository.findUpcomingPublicEventsAfter(today,
+                after.getEventDate(), after.getStartTime(), after.getId(), limit);
+
+        int maxRows = limit.isPaged() ? limit.getPageSize() : Integer.MAX_VALUE;
+        List<EventResponseDTO> merged = new ArrayList<>(Math.min(maxRows, own.size() + shared.size()));
+        Set<Long> seen = new HashSet<>();
+        int i = 0;
+        int j = 0;
+        while (merged.size() < maxRows && (i < own.size() || j < shared.size())) {
+            EventResponseDTO next = j == shared.size()
+                    || (i < own.size() && FEED_ORDER.compare(own.get(i), shared.get(j)) <= 0)
+                    ? own.get(i++) : shared.get(j++);
+            // An event switching type between the two reads could show up in both
+            if (seen.add(next.getId())) {
+                merged.add(next);
+            }
+        }
+        return merged;
+    }
+
+    // ========== PAGINATION HELPERS ==========
+
+    // Page of accessible event IDs in feed order (each access branch reads at most offset + size rows)
+    private List<Long> accessibleEventIds(Long userId, Pageable pageable) {
+        checkPageSize(pageable.getPageSize());
+        EventCursor origin = EventCursor.origin();
+        return eventRepository.findAccessibleEventIds(userId, origin.getEventDate(), origin.getStartTime(),
+                origin.getId(), pageable.getOffset() + pageable.getPageSize(), pageable.getPageSize(),
+                pageable.getOffset());
+    }
+
+    // Listing stamps for IDs in feed order (an event deleted in between is left out, as loadInOrder does)
+    private List<Object[]> stampsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Object[]> byId = new HashMap<>();
+        eventRepository.findEventStampsByIds(ids).forEach(row -> byId.put((Long) row[0], row));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // Digest of what the event view shows besides the event row itself (covered by its version): organizer and invitees
+    private static ResourceVersion eventVersion(Long id, Long version, Object[] organizer, List<Object[]> invitees,
+                                                boolean organizerView) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(organizer);
+        invitees.stream()
+                .sorted(Comparator.comparing(invitee -> (Long) invitee[0]))
+                .forEach(rows::add);
+        EventJsonView view = organizerView ? EventJsonView.ORGANIZER : EventJsonView.BASIC;
+        return ResourceVersion.ofRows("event-" + id + "-v" + version + "-" + view.name().toLowerCase(), rows);
+    }
+
+    // Listing ETags name the view, the user and, for paged listings, the page
+    private String listingTag(EventFeedView view, Long userId, Pageable pageable) {
+        String tag = "events-" + view.name().toLowerCase() + "-u" + userId;
+        return pageable.isPaged() ? tag + "-p" + pageable.getPageNumber() + "-s" + pageable.getPageSize() : tag;
+    }
+
+    private int checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    private long countFeed(EventFeedView view, Long userId, LocalDate today) {
+        return switch (view) {
+            case ALL -> eventRepository.countAccessibleEvents(userId);
+            case PUBLIC -> eventRepository.countByEventType(EventType.PUBLIC);
+            case UPCOMING -> eventRepository.countFeedEvents(userId, today) + eventRepository.countUpcomingPublicEvents(today);
+            case PAST -> eventRepository.countByEventDateBefore(today);
+            case TODAY -> eventRepository.countByEventDate(today);
+            case MY_ORGANIZED -> eventRepository.countByOrganizerId(userId);
+            case MY_INVITATIONS -> eventRepository.countInvitedEvents(userId);
+        };
+    }
+
+    // Build a page from a result fetched with pageSize + 1 rows
+    private EventPageResponseDTO toEventPage(List<EventResponseDTO> events, int pageSize, Long total) {
+        boolean hasNext = events.size() > pageSize;
+        List<EventResponseDTO> pageContent = hasNext ? events.subList(0, pageSize) : events;
+
+        String nextCursor = null;
+        if (hasNext) {
+            EventResponseDTO last = pageContent.get(pageContent.size() - 1);
+            nextCursor = new EventCursor(last.getEventDate(), last.getStartTime(), last.getId()).encode();
+        }
+
+        return new EventPageResponseDTO(pageContent, nextCursor, hasNext, total);
+    }
+
+    // Response after a write: projection plus invitee rows, read back from the flushed state
+    private EventResponseDTO getOrganizerView(Long eventId) {
+        EventResponseDTO responseDTO = eventRepository.findEventViewById(eventId)
+                .orElseThrow(() -> new NoSuchElementException("Event not found with id: " + eventId));
+        attachInvitedUsers(List.of(responseDTO));
+        return responseDTO;
+    }
+
+    // Fill in invited users for organizer views with one query for the whole list
+    private void attachInvitedUsers(List<EventResponseDTO> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Map<Long, EventResponseDTO> byId = new HashMap<>();
+        for (EventResponseDTO dto : events) {
+            dto.setInvitedUsers(new HashSet<>());
+            byId.put(dto.getId(), dto);
+        }
+
+        for (Object[] row : eventRepository.findInviteeRows(byId.keySet())) {
+            byId.get((Long) row[0]).getInvitedUsers()
+                    .add(new UserBasicDTO((Long) row[1], (String) row[2], (String) row[3], (String) row[4]));
+        }
+    }
 }
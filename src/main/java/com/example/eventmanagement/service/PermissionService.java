@@ -1,10 +1,13 @@
 package com.example.eventmanagement.service;
 
+import com.example.eventmanagement.cache.EntityCache;
 import com.example.eventmanagement.dto.PermissionDTO;
 import com.example.eventmanagement.enums.ActivityType;
 import com.example.eventmanagement.mapper.PermissionMapper;
 import com.example.eventmanagement.model.Permission;
 import com.example.eventmanagement.repository.PermissionRepository;
+import com.example.eventmanagement.repository.UserRepository;
+import com.example.eventmanagement.security.TokenDenyList;
 import com.example.eventmanagement.util.ApplicationLogger;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
@@ -21,6 +24,9 @@ public class PermissionService {
     private final PermissionRepository permissionRepository;
     private final PermissionMapper permissionMapper;
     private final ActivityHistoryService activityHistoryService;
+    private final UserRepository userRepository;
+    private final TokenDenyList tokenDenyList;
+    private final EntityCache entityCache;
     private final ApplicationLogger applicationLogger;
     private final Logger logger;
 
@@ -28,10 +34,16 @@ public class PermissionService {
     public PermissionService(PermissionRepository permissionRepository,
                              PermissionMapper permissionMapper,
                              ActivityHistoryService activityHistoryService,
+                             UserRepository userRepository,
+                             TokenDenyList tokenDenyList,
+                             EntityCache entityCache,
                              ApplicationLogger applicationLogger) {
         this.permissionRepository = permissionRepository;
         this.permissionMapper = permissionMapper;
         this.activityHistoryService = activityHistoryService;
+        this.userRepository = userRepository;
+        this.tokenDenyList = tokenDenyList;
+        this.entityCache = entityCache;
         this.applicationLogger = applicationLogger;
         this.logger = applicationLogger.getLogger(PermissionService.class);
     }
@@ -155,6 +167,11 @@ public class PermissionService {
             Permission updatedPermission = permissionRepository.save(existingPermission);
             logger.info("Permission updated successfully with ID: {}", updatedPermission.getId());
 
+            // Permission names are embedded in tokens as authorities
+            tokenDenyList.revokeUsers(userRepository.findIdsByPermissionId(updatedPermission.getId()));
+            entityCache.evictAllRoles();
+            entityCache.evictAllPrincipals();
+
             // Record activity
             activityHistoryService.recordActivity(ActivityType.PERMISSION_UPDATE, request);
 
@@ -190,8 +207,14 @@ public class PermissionService {
 
             logger.debug("Found permission to delete: {} (ID: {})", permission.getPermission(), permission.getId());
 
+            // Users holding the permission must be collected before it is removed
+            List<Long> affectedUserIds = userRepository.findIdsByPermissionId(id);
+
             // Delete permission
             permissionRepository.delete(permission);
+            tokenDenyList.revokeUsers(affectedUserIds);
+            entityCache.evictAllRoles();
+            entityCache.evictAllPrincipals();
             logger.info("Permission deleted successfully with ID: {}", id);
 
             // Record activity
@@ -1,5 +1,6 @@
 package com.example.eventmanagement.service;
 
+import com.example.eventmanagement.cache.EntityCache;
 import com.example.eventmanagement.dto.RoleDTO;
 import com.example.eventmanagement.dto.RolePermissionDTO;
 import com.example.eventmanagement.enums.ActivityType;
@@ -8,6 +9,8 @@ import com.example.eventmanagement.model.Permission;
 import com.example.eventmanagement.model.Role;
 import com.example.eventmanagement.repository.PermissionRepository;
 import com.example.eventmanagement.repository.RoleRepository;
+import com.example.eventmanagement.repository.UserRepository;
+import com.example.eventmanagement.security.TokenDenyList;
 import com.example.eventmanagement.util.ApplicationLogger;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
@@ -28,6 +31,9 @@ public class RoleService {
     private final PermissionRepository permissionRepository;
     private final RoleMapper roleMapper;
     private final ActivityHistoryService activityHistoryService;
+    private final UserRepository userRepository;
+    private final TokenDenyList tokenDenyList;
+    private final EntityCache entityCache;
     private final ApplicationLogger applicationLogger;
     private final Logger logger;
 
@@ -36,11 +42,17 @@ public class RoleService {
                        PermissionRepository permissionRepository,
                        RoleMapper roleMapper,
                        ActivityHistoryService activityHistoryService,
+                       UserRepository userRepository,
+                       TokenDenyList tokenDenyList,
+                       EntityCache entityCache,
                        ApplicationLogger applicationLogger) {
         this.roleRepository = roleRepository;
         this.permissionRepository = permissionRepository;
         this.roleMapper = roleMapper;
         this.activityHistoryService = activityHistoryService;
+        this.userRepository = userRepository;
+        this.tokenDenyList = tokenDenyList;
+        this.entityCache = entityCache;
         this.applicationLogger = applicationLogger;
         this.logger = applicationLogger.getLogger(RoleService.class);
     }
@@ -122,11 +134,10 @@ public class RoleService {
     public RoleDTO getRoleById(Long id) {
         try {
             logger.debug("Fetching role with ID: {}", id);
-            Role role = roleRepository.findById(id)
-                    .orElseThrow(() -> new NoSuchElementException("Role not found with id: " + id));
+            RoleDTO role = entityCache.getRole(id, this::loadRoleWithPermissions);
 
             logger.debug("Found role: {} (ID: {})", role.getName(), role.getId());
-            return roleMapper.toDTO(role);
+            return new RoleDTO(role.getId(), role.getName(), role.getDescription());
 
         } catch (NoSuchElementException e) {
             applicationLogger.logError(logger, "Role not found with ID: " + id, e);
@@ -141,11 +152,10 @@ public class RoleService {
     public RoleDTO getRoleByIdWithPermissions(Long id) {
         try {
             logger.debug("Fetching role with permissions for ID: {}", id);
-            Role role = roleRepository.findById(id)
-                    .orElseThrow(() -> new NoSuchElementException("Role not found with id: " + id));
+            RoleDTO role = entityCache.getRole(id, this::loadRoleWithPermissions);
 
             logger.debug("Found role with permissions: {} (ID: {})", role.getName(), role.getId());
-            return roleMapper.toDTOWithPermissions(role);
+            return role;
 
         } catch (NoSuchElementException e) {
             applicationLogger.logError(logger, "Role not found with ID: " + id, e);
@@ -156,6 +166,13 @@ public class RoleService {
         }
     }
 
+    // Cache loader for role reads - both role views are served from the cached role with permissions
+    private RoleDTO loadRoleWithPermissions(Long id) {
+        Role role = roleRepository.findById(id)
+                .orElseThrow(() -> new NoSuchElementException("Role not found with id: " + id));
+        return roleMapper.toDTOWithPermissions(role);
+    }
+
     // Get role by name
     public RoleDTO getRoleByName(String name) {
         try {
@@ -203,6 +220,11 @@ public class RoleService {
             Role updatedRole = roleRepository.save(existingRole);
             logger.info("Role updated successfully with ID: {}", updatedRole.getId());
 
+            // Role name is embedded in tokens as an authority
+            tokenDenyList.revokeUsers(userRepository.findIdsByRoleId(updatedRole.getId()));
+            entityCache.evictRole(updatedRole.getId());
+            entityCache.evictAllPrincipals();
+
             // Record activity
             activityHistoryService.recordActivity(ActivityType.ROLE_UPDATE, request);
 
@@ -246,6 +268,7 @@ public class RoleService {
 
             // Delete role
             roleRepository.delete(role);
+            entityCache.evictRole(id);
             logger.info("Role deleted successfully with ID: {}", id);
 
             // Record activity
@@ -295,6 +318,9 @@ public class RoleService {
 
             // Save role
             Role savedRole = roleRepository.save(role);
+            tokenDenyList.revokeUsers(userRepository.findIdsByRoleId(savedRole.getId()));
+            entityCache.evictRole(savedRole.getId());
+            entityCache.evictAllPrincipals();
             logger.info("Successfully assigned {} permissions to role: {}", permissions.size(), savedRole.getName());
 
             // Record activity
@@ -335,6 +361,9 @@ public class RoleService {
 
             // Save role
             Role savedRole = roleRepository.save(role);
+            tokenDenyList.revokeUsers(userRepository.findIdsByRoleId(savedRole.getId()));
+            entityCache.evictRole(savedRole.getId());
+            entityCache.evictAllPrincipals();
             logger.info("Successfully added permission '{}' to role '{}'", permission.getPermission(), savedRole.getName());
 
             // Record activity
@@ -375,6 +404,9 @@ public class RoleService {
 
             // Save role
             Role savedRole = roleRepository.save(role);
+            tokenDenyList.revokeUsers(userRepository.findIdsByRoleId(savedRole.getId()));
+            entityCache.evictRole(savedRole.getId());
+            entityCache.evictAllPrincipals();
             logger.info("Successfully removed permission '{}' from role '{}'", permission.getPermission(), savedRole.getName());
 
             // Record activity
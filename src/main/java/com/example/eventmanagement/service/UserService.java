@@ -1,5 +1,7 @@
 package com.example.eventmanagement.service;
 
+import com.example.eventmanagement.cache.EntityCache;
+import com.example.eventmanagement.cache.EventJsonCache;
 import com.example.eventmanagement.dto.UserRequestDTO;
 import com.example.eventmanagement.dto.UserResponseDTO;
 import com.example.eventmanagement.dto.ChangePasswordDTO;
@@ -10,10 +12,14 @@ import com.example.eventmanagement.model.Role;
 import com.example.eventmanagement.model.User;
 import com.example.eventmanagement.repository.RoleRepository;
 import com.example.eventmanagement.repository.UserRepository;
+import com.example.eventmanagement.security.CurrentUserProvider;
+import com.example.eventmanagement.security.TokenDenyList;
 import com.example.eventmanagement.util.ApplicationLogger;
+import com.example.eventmanagement.util.ResourceVersion;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -23,8 +29,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
 @Service
 public class UserService {
@@ -35,6 +44,10 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final ActivityHistoryService activityHistoryService;
     private final PasswordHistoryService passwordHistoryService;
+    private final CurrentUserProvider currentUserProvider;
+    private final TokenDenyList tokenDenyList;
+    private final EntityCache entityCache;
+    private final EventJsonCache eventJsonCache;
     private final ApplicationLogger applicationLogger;
     private final Logger logger;
 
@@ -45,6 +58,10 @@ public class UserService {
                        PasswordEncoder passwordEncoder,
                        ActivityHistoryService activityHistoryService,
                        PasswordHistoryService passwordHistoryService,
+                       CurrentUserProvider currentUserProvider,
+                       TokenDenyList tokenDenyList,
+                       EntityCache entityCache,
+                       EventJsonCache eventJsonCache,
                        ApplicationLogger applicationLogger) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
@@ -52,6 +69,10 @@ public class UserService {
         this.passwordEncoder = passwordEncoder;
         this.activityHistoryService = activityHistoryService;
         this.passwordHistoryService = passwordHistoryService;
+        this.currentUserProvider = currentUserProvider;
+        this.tokenDenyList = tokenDenyList;
+        this.entityCache = entityCache;
+        this.eventJsonCache = eventJsonCache;
         this.applicationLogger = applicationLogger;
         this.logger = applicationLogger.getLogger(UserService.class);
     }
@@ -163,6 +184,40 @@ public class UserService {
         }
     }
 
+    // Version of a user for conditional GETs (roles have no timestamp, so their shown columns are hashed in)
+    public ResourceVersion getUserVersion(Long id) {
+        try {
+            Object[] row = userRepository.findVersionRow(id).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new NoSuchElementException("User not found with id: " + id));
+
+            String role = Integer.toHexString(Objects.hash(row[1], row[2], row[3]));
+            return ResourceVersion.of("user-" + id + "-" + role, (LocalDateTime) row[0]);
+
+        } catch (NoSuchElementException e) {
+            applicationLogger.logError(logger, "User not found with ID: " + id, e);
+            throw e;
+        } catch (Exception e) {
+            applicationLogger.logError(logger, "Failed to fetch version of user ID: " + id, e);
+            throw new RuntimeException("Failed to fetch user version: " + e.getMessage(), e);
+        }
+    }
+
+    // Aggregate version of a user listing page: row count, latest update and the roles shown in it
+    // ETag only - deleting a user does not move the latest update, so Last-Modified would go stale
+    public ResourceVersion getUsersVersion(int page, int size) {
+        try {
+            Object[] row = userRepository.findUsersVersion().get(0);
+            String roles = Integer.toHexString(Arrays.deepHashCode(roleRepository.findSummaryRows().toArray()));
+            return ResourceVersion.of("users-p" + page + "-s" + size + "-" + row[0] + "-" + roles, (LocalDateTime) row[1])
+                    .withoutLastModified();
+
+        } catch (Exception e) {
+            applicationLogger.logError(logger, "Failed to fetch users version", e);
+            throw new RuntimeException("Failed to fetch users version: " + e.getMessage(), e);
+        }
+    }
+
     // Get user by username
     public UserResponseDTO getUserByUsername(String username) {
         try {
@@ -196,9 +251,9 @@ public class UserService {
         }
     }
 
-    // Update user
+    // Update user (expectedVersion comes from If-Match; null means unconditional)
     @Transactional
-    public UserResponseDTO updateUser(Long id, UserRequestDTO requestDTO, HttpServletRequest request) {
+    public UserResponseDTO updateUser(Long id, UserRequestDTO requestDTO, Long expectedVersion, HttpServletRequest request) {
         try {
             // TRACE LOG: Start of operation
             applicationLogger.logTrace(logger, "UPDATE", "User", id);
@@ -209,6 +264,8 @@ public class UserService {
                     .orElseThrow(() -> new NoSuchElementException("User not found with id: " + id));
 
             logger.debug("Found user to update: {} ({})", existingUser.getUsername(), existingUser.getEmail());
+            ResourceVersion.checkIfMatch("User", id, existingUser.getVersion(), expectedVersion);
+            String previousUsername = existingUser.getUsername();
 
             // Check if username is being changed and if it's already taken
             if (!existingUser.getUsername().equals(requestDTO.getUsername()) &&
@@ -257,10 +314,17 @@ public class UserService {
                 logger.debug("Role updated to '{}' for user ID: {}", role.getName(), id);
             }
 
-            // Save updated user
-            User updatedUser = userRepository.save(existingUser);
+            // Save updated user (flushed so the response carries the new version)
+            User updatedUser = userRepository.saveAndFlush(existingUser);
             logger.info("User updated successfully with ID: {}", updatedUser.getId());
 
+            // Username, role, status or password may have changed - existing tokens are stale
+            tokenDenyList.revokeUser(updatedUser.getId());
+            entityCache.evictPrincipal(previousUsername);
+            entityCache.evictPrincipal(updatedUser.getUsername());
+            entityCache.evictAllEvents();
+            eventJsonCache.invalidateAll();
+
             // Record activity
             activityHistoryService.recordActivity(ActivityType.USER_UPDATE, request);
 
@@ -276,6 +340,9 @@ public class UserService {
         } catch (IllegalArgumentException e) {
             applicationLogger.logError(logger, "User update failed: Validation error for ID: " + id, e);
             throw e;
+        } catch (OptimisticLockingFailureException e) {
+            applicationLogger.logError(logger, "User update failed: Version conflict for ID: " + id, e);
+            throw e;
         } catch (Exception e) {
             applicationLogger.logError(logger, "User update failed: Unexpected error for ID: " + id, e);
             throw new RuntimeException("Failed to update user: " + e.getMessage(), e);
@@ -284,7 +351,7 @@ public class UserService {
 
     // Deactivate user (soft delete)
     @Transactional
-    public UserResponseDTO deactivateUser(Long id, HttpServletRequest request) {
+    public UserResponseDTO deactivateUser(Long id, Long expectedVersion, HttpServletRequest request) {
         try {
             logger.info("Deactivating user with ID: {}", id);
 
@@ -292,8 +359,13 @@ public class UserService {
                     .orElseThrow(() -> new NoSuchElementException("User not found with id: " + id));
 
             logger.debug("Deactivating user: {}", user.getUsername());
+            ResourceVersion.checkIfMatch("User", id, user.getVersion(), expectedVersion);
             user.setActive(false);
-            User updatedUser = userRepository.save(user);
+            User updatedUser = userRepository.saveAndFlush(user);
+
+            // Deactivated users must not keep using issued tokens
+            tokenDenyList.revokeUser(updatedUser.getId());
+            entityCache.evictPrincipal(updatedUser.getUsername());
 
             // Record activity
             activityHistoryService.recordActivity(ActivityType.USER_DEACTIVATE, request);
@@ -304,6 +376,9 @@ public class UserService {
         } catch (NoSuchElementException e) {
             applicationLogger.logError(logger, "User deactivation failed: User not found with ID: " + id, e);
             throw e;
+        } catch (OptimisticLockingFailureException e) {
+            applicationLogger.logError(logger, "User deactivation failed: Version conflict for ID: " + id, e);
+            throw e;
         } catch (Exception e) {
             applicationLogger.logError(logger, "User deactivation failed for ID: " + id, e);
             throw new RuntimeException("Failed to deactivate user: " + e.getMessage(), e);
@@ -312,7 +387,7 @@ public class UserService {
 
     // Activate user
     @Transactional
-    public UserResponseDTO activateUser(Long id, HttpServletRequest request) {
+    public UserResponseDTO activateUser(Long id, Long expectedVersion, HttpServletRequest request) {
         try {
             logger.info("Activating user with ID: {}", id);
 
@@ -320,8 +395,10 @@ public class UserService {
                     .orElseThrow(() -> new NoSuchElementException("User not found with id: " + id));
 
             logger.debug("Activating user: {}", user.getUsername());
+            ResourceVersion.checkIfMatch("User", id, user.getVersion(), expectedVersion);
             user.setActive(true);
-            User updatedUser = userRepository.save(user);
+            User updatedUser = userRepository.saveAndFlush(user);
+            entityCache.evictPrincipal(updatedUser.getUsername());
 
             // Record activity
             activityHistoryService.recordActivity(ActivityType.USER_ACTIVATE, request);
@@ -332,6 +409,9 @@ public class UserService {
         } catch (NoSuchElementException e) {
             applicationLogger.logError(logger, "User activation failed: User not found with ID: " + id, e);
             throw e;
+        } catch (OptimisticLockingFailureException e) {
+            applicationLogger.logError(logger, "User activation failed: Version conflict for ID: " + id, e);
+            throw e;
         } catch (Exception e) {
             applicationLogger.logError(logger, "User activation failed for ID: " + id, e);
             throw new RuntimeException("Failed to activate user: " + e.getMessage(), e);
@@ -340,7 +420,7 @@ public class UserService {
 
     // Delete user (hard delete)
     @Transactional
-    public void deleteUser(Long id, HttpServletRequest request) {
+    public void deleteUser(Long id, Long expectedVersion, HttpServletRequest request) {
         try {
             // TRACE LOG: Start of operation
             applicationLogger.logTrace(logger, "DELETE", "User", id);
@@ -350,8 +430,13 @@ public class UserService {
                     .orElseThrow(() -> new NoSuchElementException("User not found with id: " + id));
 
             logger.debug("Found user to delete: {} ({})", user.getUsername(), user.getEmail());
+            ResourceVersion.checkIfMatch("User", id, user.getVersion(), expectedVersion);
 
             userRepository.delete(user);
+            tokenDenyList.revokeUser(id);
+            entityCache.evictPrincipal(user.getUsername());
+            entityCache.evictAllEvents();
+            eventJsonCache.invalidateAll();
             logger.info("User deleted successfully with ID: {}", id);
 
             // Record activity
@@ -363,6 +448,9 @@ public class UserService {
         } catch (NoSuchElementException e) {
             applicationLogger.logError(logger, "User deletion failed: Entity not found for ID: " + id, e);
             throw e;
+        } catch (OptimisticLockingFailureException e) {
+            applicationLogger.logError(logger, "User deletion failed: Version conflict for ID: " + id, e);
+            throw e;
         } catch (Exception e) {
             applicationLogger.logError(logger, "User deletion failed: Unexpected error for ID: " + id, e);
             throw new RuntimeException("Failed to delete user: " + e.getMessage(), e);
@@ -375,13 +463,9 @@ public class UserService {
         try {
             logger.info("User attempting to change their own password");
 
-            // Get current authenticated user
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String currentUsername = authentication.getName();
-
-            // Find user by username
-            User user = userRepository.findByUsername(currentUsername)
-                    .orElseThrow(() -> new NoSuchElementException("User not found"));
+            // Get current authenticated user (loaded by ID from the principal)
+            String currentUsername = currentUserProvider.getCurrentUsername();
+            User user = currentUserProvider.getCurrentUser();
 
             logger.debug("Password change requested by user: {}", currentUsername);
 
@@ -412,6 +496,8 @@ public class UserService {
 
             // Save user
             userRepository.save(user);
+            tokenDenyList.revokeUser(user.getId());
+            entityCache.evictPrincipal(user.getUsername());
             logger.info("Password changed successfully for user: {}", currentUsername);
 
             // Record password change in history
@@ -474,6 +560,8 @@ public class UserService {
 
             // Save user
             userRepository.save(user);
+            tokenDenyList.revokeUser(user.getId());
+            entityCache.evictPrincipal(user.getUsername());
 
             // Get who is resetting the password
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
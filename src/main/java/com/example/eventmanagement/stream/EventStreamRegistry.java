@@ -0,0 +1,310 @@
+package com.example.eventmanagement.stream;
+
+import com.example.eventmanagement.dto.EventNotificationDTO;
+import com.example.eventmanagement.enums.EventChangeType;
+import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.event.EventChangedEvent;
+import com.example.eventmanagement.security.CurrentUserProvider;
+import com.example.eventmanagement.util.ApplicationLogger;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fan-out of committed event changes to Server-Sent Events subscribers (GET /events/stream)
+ * - Idle connections hold no thread: SseEmitter parks the request in servlet async mode
+ * - The committing thread only offers to per-subscriber bounded buffers; a small sender pool does the writes,
+ *   at most one sender per subscriber at a time
+ * - A full buffer is dropped and replaced by a single "resync" message (client calls GET /events/changes)
+ * - One shared timer sends heartbeats, and only to connections that were quiet for a whole interval
+ * Metrics: events.stream.subscribers, events.stream.fanout.lag, events.stream.resyncs
+ */
+@Component
+public class EventStreamRegistry {
+
+    private static final String RESYNC_EVENT = "resync";
+
+    private final CurrentUserProvider currentUserProvider;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationLogger applicationLogger;
+    private final Logger logger;
+
+    // Messages buffered per subscriber before it is switched to resync
+    @Value("${event-stream.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${event-stream.heartbeat-seconds:25}")
+    private long heartbeatSeconds;
+
+    // Connections are closed after this long; EventSource clients reconnect on their own
+    @Value("${event-stream.timeout-minutes:30}")
+    private long timeoutMinutes;
+
+    @Value("${event-stream.sender-threads:4}")
+    private int senderThreads;
+
+    // User ID -> that user's open streams (a user may have several tabs or devices)
+    private final Map<Long, Set<Subscriber>> subscribersByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ExecutorService senders;
+    private ScheduledExecutorService heartbeats;
+
+    private Timer fanoutLag;
+    private Counter resyncs;
+
+    @Autowired
+    public EventStreamRegistry(CurrentUserProvider currentUserProvider,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               ApplicationLogger applicationLogger) {
+        this.currentUserProvider = currentUserProvider;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.applicationLogger = applicationLogger;
+        this.logger = applicationLogger.getLogger(EventStreamRegistry.class);
+    }
+
+    @PostConstruct
+    void start() {
+        this.senders = Executors.newFixedThreadPool(senderThreads, daemon("event-stream-sender"));
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(daemon("event-stream-heartbeat"));
+        heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+
+        Gauge.builder("events.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open event stream connections")
+                .register(meterRegistry);
+        this.fanoutLag = Timer.builder("events.stream.fanout.lag")
+                .description("Time from commit of an event change to its delivery to one subscriber")
+                .register(meterRegistry);
+        this.resyncs = Counter.builder("events.stream.resyncs")
+                .description("Subscribers whose buffer overflowed and were told to resync")
+                .register(meterRegistry);
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Open a stream for the current user (must run on the request thread, while authenticated)
+     */
+    public SseEmitter subscribe() {
+        Long userId = currentUserProvider.getCurrentUserId();
+        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(timeoutMinutes));
+        Subscriber subscriber = new Subscriber(userId, emitter, bufferSize);
+
+        subscribersByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        logger.debug("Event stream opened for user ID: {} ({} open)", userId, subscriberCount.get());
+
+        // Flush the response headers right away so proxies see a live stream
+        offer(subscriber, Message.heartbeat());
+        return emitter;
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribersByUser.computeIfPresent(subscriber.userId, (id, streams) -> {
+            streams.remove(subscriber);
+            return streams.isEmpty() ? null : streams;
+        });
+        subscriberCount.decrementAndGet();
+        logger.debug("Event stream closed for user ID: {}", subscriber.userId);
+    }
+
+    // ========== FAN-OUT ==========
+
+    /**
+     * Push committed changes to the subscribers who can see the event, or just stopped seeing it
+     * Only the ID is sent, so deletes and events that are or were PUBLIC go to everyone
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent change) {
+        Message message;
+        try {
+            String data = objectMapper.writeValueAsString(new EventNotificationDTO(change.getChangeType(), change.getEventId()));
+            message = new Message(change.getChangeType().name().toLowerCase(), data, System.nanoTime());
+        } catch (JsonProcessingException e) {
+            applicationLogger.logError(logger, "Failed to encode stream notification for event ID: " + change.getEventId(), e);
+            return;
+        }
+
+        Set<Long> audience = audience(change);
+        if (audience == null) {
+            subscribersByUser.values().forEach(streams -> streams.forEach(subscriber -> offer(subscriber, message)));
+            return;
+        }
+        audience.forEach(userId -> offerToUser(userId, message));
+    }
+
+    /**
+     * Users to notify of a change, null for every open stream
+     * Removed invitees are included: the update is their cue to refetch and drop the event (GET /events/changes)
+     */
+    Set<Long> audience(EventChangedEvent change) {
+        if (change.getChangeType() == EventChangeType.DELETED || change.getEventType() == EventType.PUBLIC
+                || change.getPreviousEventType() == EventType.PUBLIC) {
+            return null;
+        }
+
+        Set<Long> audience = new HashSet<>(change.getInvitedUserIds());
+        audience.addAll(change.getRemovedUserIds());
+        audience.add(change.getOrganizerId());
+        return audience;
+    }
+
+    private void offerToUser(Long userId, Message message) {
+        Set<Subscriber> streams = subscribersByUser.get(userId);
+        if (streams != null) {
+            streams.forEach(subscriber -> offer(subscriber, message));
+        }
+    }
+
+    private void offer(Subscriber subscriber, Message message) {
+        if (!subscriber.buffer.offer(message)) {
+            // Too far behind - drop what is buffered, the client refetches via GET /events/changes instead
+            subscriber.buffer.clear();
+            subscriber.buffer.offer(Message.resync());
+            resyncs.increment();
+            logger.debug("Event stream buffer full for user ID: {} - sent resync", subscriber.userId);
+        }
+        schedule(subscriber);
+    }
+
+    // At most one sender per subscriber, so writes to an emitter never interleave
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.closed.get() || !subscriber.sending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            senders.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.sending.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Message message;
+            while (!subscriber.closed.get() && (message = subscriber.buffer.poll()) != null) {
+                send(subscriber, message);
+            }
+        } finally {
+            subscriber.sending.set(false);
+        }
+        // Re-check: a message offered after the last poll but before the flag was cleared would be stranded
+        if (!subscriber.buffer.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, Message message) {
+        try {
+            if (message.name() == null) {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else {
+                subscriber.emitter.send(SseEmitter.event().name(message.name()).data(message.data()));
+            }
+            subscriber.lastSentNanos = System.nanoTime();
+            if (message.createdNanos() > 0) {
+                fanoutLag.record(System.nanoTime() - message.createdNanos(), TimeUnit.NANOSECONDS);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away - the emitter callbacks unsubscribe it
+            logger.debug("Event stream send failed for user ID: {}: {}", subscriber.userId, e.getMessage());
+            subscriber.emitter.completeWithError(e);
+            unsubscribe(subscriber);
+        }
+    }
+
+    // Coalesced: one pass over all streams, skipping those that carried data within the interval
+    private void heartbeat() {
+        try {
+            long quietSince = System.nanoTime() - TimeUnit.SECONDS.toNanos(heartbeatSeconds);
+            subscribersByUser.values().forEach(streams -> streams.forEach(subscriber -> {
+                if (subscriber.lastSentNanos - quietSince <= 0 && subscriber.buffer.isEmpty()) {
+                    offer(subscriber, Message.heartbeat());
+                }
+            }));
+        } catch (Exception e) {
+            applicationLogger.logError(logger, "Event stream heartbeat failed", e);
+        }
+    }
+
+    /**
+     * Close every stream (clients reconnect to another instance) and stop the sender threads
+     */
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        subscribersByUser.values().forEach(streams -> streams.forEach(subscriber -> subscriber.emitter.complete()));
+        senders.shutdown();
+    }
+
+    // name == null: heartbeat comment; createdNanos == 0: not an event change (excluded from fan-out lag)
+    private record Message(String name, String data, long createdNanos) {
+
+        static Message heartbeat() {
+            return new Message(null, null, 0);
+        }
+
+        static Message resync() {
+            return new Message(RESYNC_EVENT, "{}", 0);
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<Message> buffer;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long lastSentNanos = System.nanoTime();
+
+        private Subscriber(Long userId, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.eventmanagement.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque watermark for delta sync (GET /events/changes)
+ * Two keyset positions: last changed event (updatedAt, id) and last removal (removedAt, id)
+ * Encoded as URL-safe Base64 so clients treat it as a black box
+ */
+public final class EventChangeToken {
+
+    // Earliest value MySQL's DATETIME type can store - sorts before every real row
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private final LocalDateTime changedAt;
+    private final Long changedId;
+    private final LocalDateTime removedAt;
+    private final Long removedId;
+
+    public EventChangeToken(LocalDateTime changedAt, Long changedId, LocalDateTime removedAt, Long removedId) {
+        this.changedAt = changedAt;
+        this.changedId = changedId;
+        this.removedAt = removedAt;
+        this.removedId = removedId;
+    }
+
+    /**
+     * Token positioned before every row (first sync)
+     */
+    public static EventChangeToken origin() {
+        return new EventChangeToken(ORIGIN, 0L, ORIGIN, 0L);
+    }
+
+    /**
+     * Decode a token received from a client
+     * Returns origin() when no token was sent
+     * Throws IllegalArgumentException if the token was tampered with
+     */
+    public static EventChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return origin();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid change token");
+            }
+            return new EventChangeToken(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid change token: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = changedAt + "|" + changedId + "|" + removedAt + "|" + removedId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public Long getChangedId() {
+        return changedId;
+    }
+
+    public LocalDateTime getRemovedAt() {
+        return removedAt;
+    }
+
+    public Long getRemovedId() {
+        return removedId;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.eventmanagement.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for event listings
+ * Points at the last row returned, ordered by (eventDate, startTime, id)
+ * Encoded as URL-safe Base64 so clients treat it as a black box
+ */
+public final class EventCursor {
+
+    // Earliest date MySQL's DATE type can store - sorts before every real event
+    private static final LocalDate ORIGIN_DATE = LocalDate.of(1000, 1, 1);
+
+    private final LocalDate eventDate;
+    private final LocalTime startTime;
+    private final Long id;
+
+    public EventCursor(LocalDate eventDate, LocalTime startTime, Long id) {
+        this.eventDate = eventDate;
+        this.startTime = startTime;
+        this.id = id;
+    }
+
+    /**
+     * Cursor positioned before the first row (used for the first page)
+     */
+    public static EventCursor origin() {
+        return new EventCursor(ORIGIN_DATE, LocalTime.MIN, 0L);
+    }
+
+    /**
+     * Decode a cursor received from a client
+     * Returns origin() when no cursor was sent
+     * Throws IllegalArgumentException if the cursor was tampered with
+     */
+    public static EventCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return origin();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new EventCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = eventDate + "|" + startTime + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isOrigin() {
+        return id == 0L && ORIGIN_DATE.equals(eventDate) && LocalTime.MIN.equals(startTime);
+    }
+
+    public LocalDate getEventDate() {
+        return eventDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.eventmanagement.util;
+
+import com.example.eventmanagement.dto.EventRequestDTO;
+import com.example.eventmanagement.enums.EventImportFormat;
+import com.example.eventmanagement.enums.EventType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Streams event rows from an NDJSON or CSV upload, one line at a time
+ * Only the current line is held in memory, so file size is not limited by heap
+ *
+ * CSV files need a header row with the columns:
+ * title, description, eventDate, startTime, endTime, location, eventType, invitedUserIds
+ * invitedUserIds is a ';' separated list (e.g. 4;8;15)
+ */
+public class EventImportReader implements Closeable {
+
+    private static final List<String> CSV_COLUMNS = List.of(
+            "title", "description", "eventdate", "starttime", "endtime", "location", "eventtype", "inviteduserids");
+
+    private final BufferedReader reader;
+    private final EventImportFormat format;
+    private final ObjectMapper objectMapper;
+
+    // CSV column name (lower case) -> position
+    private Map<String, Integer> csvHeader;
+    private long lineNumber;
+
+    public EventImportReader(InputStream input, EventImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * One line of the upload - either a parsed request or the reason it could not be parsed
+     */
+    public static class Row {
+        private final long lineNumber;
+        private final EventRequestDTO request;
+        private final String error;
+
+        Row(long lineNumber, EventRequestDTO request, String error) {
+            this.lineNumber = lineNumber;
+            this.request = request;
+            this.error = error;
+        }
+
+        public long getLineNumber() {
+            return lineNumber;
+        }
+
+        public EventRequestDTO getRequest() {
+            return request;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+
+    /**
+     * Read the next data row, skipping blank lines
+     * Returns null at end of input
+     * Throws IllegalArgumentException if the CSV header is missing or invalid
+     */
+    public Row next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            if (format == EventImportFormat.CSV && csvHeader == null) {
+                csvHeader = parseHeader(line);
+                continue;
+            }
+
+            try {
+                EventRequestDTO request = format == EventImportFormat.CSV
+                        ? parseCsvRow(line)
+                        : objectMapper.readValue(line, EventRequestDTO.class);
+                return new Row(lineNumber, request, null);
+            } catch (Exception e) {
+                return new Row(lineNumber, null, "Unreadable row: " + e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private Map<String, Integer> parseHeader(String line) {
+        List<String> names = splitCsvLine(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim().toLowerCase(), i);
+        }
+        for (String column : CSV_COLUMNS) {
+            if (!column.equals("inviteduserids") && !header.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header is missing column: " + column);
+            }
+        }
+        return header;
+    }
+
+    private EventRequestDTO parseCsvRow(String line) {
+        List<String> values = splitCsvLine(line);
+
+        EventRequestDTO request = new EventRequestDTO();
+        request.setTitle(column(values, "title"));
+        request.setDescription(column(values, "description"));
+        request.setEventDate(parseOrNull(column(values, "eventdate"), LocalDate::parse));
+        request.setStartTime(parseOrNull(column(values, "starttime"), LocalTime::parse));
+        request.setEndTime(parseOrNull(column(values, "endtime"), LocalTime::parse));
+        request.setLocation(column(values, "location"));
+        request.setEventType(parseOrNull(column(values, "eventtype"), value -> EventType.valueOf(value.toUpperCase())));
+
+        String invited = column(values, "inviteduserids");
+        if (invited != null) {
+            Set<Long> invitedUserIds = new LinkedHashSet<>();
+            Arrays.stream(invited.split(";"))
+                    .map(String::trim)
+                    .filter(id -> !id.isEmpty())
+                    .forEach(id -> invitedUserIds.add(Long.parseLong(id)));
+            request.setInvitedUserIds(invitedUserIds);
+        }
+        return request;
+    }
+
+    private String column(List<String> values, String name) {
+        Integer index = csvHeader.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static <T> T parseOrNull(String value, Function<String, T> parser) {
+        return value == null ? null : parser.apply(value);
+    }
+
+    // Split one CSV line, honouring double quotes and "" escapes
+    private static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.eventmanagement.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.StaleStateException;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Bounded retry for writes that lost an optimistic locking race (another request bumped the version first)
+ * Each attempt calls a @Transactional service method, so it re-reads the row in a fresh transaction; the rolled back
+ * attempt leaves nothing behind (history and change events are only written after commit)
+ * Only for idempotent operations, and never when the client sent If-Match - then the conflict is the answer (409)
+ * Metrics: optimistic.lock.retries and optimistic.lock.conflicts, tagged with the operation
+ */
+@Component
+public class OptimisticLockRetrier {
+
+    private final MeterRegistry meterRegistry;
+    private final Logger logger;
+
+    // Attempts per request, the first one included
+    @Value("${optimistic-lock.max-attempts:3}")
+    private int maxAttempts;
+
+    // Base pause before a retry, grows with each attempt plus random jitter so racing requests spread out
+    @Value("${optimistic-lock.backoff-millis:20}")
+    private long backoffMillis;
+
+    @Autowired
+    public OptimisticLockRetrier(MeterRegistry meterRegistry, ApplicationLogger applicationLogger) {
+        this.meterRegistry = meterRegistry;
+        this.logger = applicationLogger.getLogger(OptimisticLockRetrier.class);
+    }
+
+    /**
+     * Run the write, retrying version conflicts when retryable; a conflict that is not retried is rethrown
+     * as OptimisticLockingFailureException (409) even when the service wrapped it
+     */
+    public <T> T execute(String operation, boolean retryable, Supplier<T> write) {
+        // Inside a caller's transaction a retry would only see the same rolled back state
+        boolean canRetry = retryable && !TransactionSynchronizationManager.isActualTransactionActive();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return write.get();
+            } catch (RuntimeException e) {
+                OptimisticLockingFailureException conflict = asConflict(e);
+                if (conflict == null) {
+                    throw e;
+                }
+
+                if (!canRetry || attempt >= maxAttempts) {
+                    meterRegistry.counter("optimistic.lock.conflicts", "operation", operation).increment();
+                    logger.warn("Version conflict on {} after {} attempt(s): {}", operation, attempt, conflict.getMessage());
+                    throw conflict;
+                }
+
+                meterRegistry.counter("optimistic.lock.retries", "operation", operation).increment();
+                logger.debug("Version conflict on {} (attempt {}), retrying", operation, attempt);
+                pause(attempt);
+            }
+        }
+    }
+
+    public void run(String operation, boolean retryable, Runnable write) {
+        execute(operation, retryable, () -> {
+            write.run();
+            return null;
+        });
+    }
+
+    // ========== INTERNALS ==========
+
+    // Conflicts surface as Spring's exception (repositories, commit), JPA's or Hibernate's (explicit flush),
+    // possibly wrapped by the service's catch-all
+    private OptimisticLockingFailureException asConflict(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            // Persistence-layer messages name internal classes - rephrase them, If-Match messages pass as they are
+            if (cause instanceof ObjectOptimisticLockingFailureException stale && stale.getPersistentClassName() != null) {
+                String entity = stale.getPersistentClassName();
+                return new OptimisticLockingFailureException(entity.substring(entity.lastIndexOf('.') + 1) + " " +
+                        stale.getIdentifier() + " was changed by another request - reload it and retry", stale);
+            }
+            if (cause instanceof OptimisticLockingFailureException conflict && !(cause instanceof ObjectOptimisticLockingFailureException)) {
+                return conflict;
+            }
+            if (cause instanceof OptimisticLockingFailureException || cause instanceof OptimisticLockException
+                    || cause instanceof StaleStateException) {
+                return new OptimisticLockingFailureException(
+                        "The record was changed by another request - reload it and retry", cause);
+            }
+        }
+        return null;
+    }
+
+    private void pause(int attempt) {
+        long millis = backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OptimisticLockingFailureException("Interrupted while waiting to retry", e);
+        }
+    }
+}
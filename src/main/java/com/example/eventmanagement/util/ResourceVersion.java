@@ -0,0 +1,115 @@
+package com.example.eventmanagement.util;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Validators for conditional GETs (If-None-Match / If-Modified-Since)
+ * Built from a lightweight version query, so a 304 is decided before the entity graph is loaded
+ * ETags are weak: they name a version of the resource, not the exact bytes of the body
+ * Conditional writes (If-Match) use the entity's version column instead, see parseIfMatch / checkIfMatch
+ */
+public final class ResourceVersion {
+
+    private final String etag;
+    private final long lastModified;
+
+    private ResourceVersion(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Version named by a tag (resource, view, row count...) and the latest of the given timestamps
+     * Null timestamps are skipped (MAX over an empty set); with none left there is no Last-Modified
+     */
+    public static ResourceVersion of(String tag, LocalDateTime... timestamps) {
+        LocalDateTime latest = null;
+        for (LocalDateTime timestamp : timestamps) {
+            if (timestamp != null && (latest == null || timestamp.isAfter(latest))) {
+                latest = timestamp;
+            }
+        }
+
+        if (latest == null) {
+            return new ResourceVersion("W/\"" + tag + "\"", -1);
+        }
+
+        // Microseconds in the tag (what the DATETIME(6) columns keep), seconds are enough for Last-Modified
+        Instant instant = latest.atZone(ZoneId.systemDefault()).toInstant();
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+        return new ResourceVersion("W/\"" + tag + "-" + Long.toString(micros, 36) + "\"", instant.toEpochMilli());
+    }
+
+    /**
+     * Version of a listing page from the rows it shows, in order (one array of shown columns per row)
+     * No Last-Modified: a row leaving the page moves no timestamp, so only the tag can tell the page changed
+     */
+    public static ResourceVersion ofRows(String tag, List<Object[]> rows) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object[] row : rows) {
+                digest.update((Arrays.toString(row) + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            String hash = Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest.digest(), 12));
+            return new ResourceVersion("W/\"" + tag + "-" + hash + "\"", -1);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Same ETag without Last-Modified, for listings where removals would not move the timestamp
+    public ResourceVersion withoutLastModified() {
+        return new ResourceVersion(etag, -1);
+    }
+
+    /**
+     * Version a conditional write expects: If-Match with the quoted version from the response body ("3")
+     * Null when the header is absent or "*" (unconditional); anything else, weak GET ETags included, is rejected
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String value = ifMatch.trim();
+        if (value.length() > 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must be the quoted version of the resource, e.g. \"3\"");
+        }
+    }
+
+    /**
+     * If-Match precondition against the version just loaded in the writing transaction
+     * A mismatch is the same conflict (409) as a concurrent write caught at flush; null expected means unconditional
+     */
+    public static void checkIfMatch(String resource, Long id, Long currentVersion, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new OptimisticLockingFailureException(resource + " " + id + " has changed (current version " +
+                    currentVersion + ", If-Match " + expectedVersion + ") - reload it and retry");
+        }
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    // Epoch millis, or -1 when unknown
+    public long getLastModified() {
+        return lastModified;
+    }
+}
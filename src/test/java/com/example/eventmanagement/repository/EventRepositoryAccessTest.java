@@ -0,0 +1,178 @@
+package com.example.eventmanagement.repository;
+
+import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.model.Event;
+import com.example.eventmanagement.model.Role;
+import com.example.eventmanagement.model.User;
+import com.example.eventmanagement.util.EventCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The UNION ALL access filter must return exactly the rows of the OR predicate it replaced
+ * (ACCESSIBLE_BY_USER), in (eventDate, startTime, id) order, for offset and keyset paging alike
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class EventRepositoryAccessTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(10);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User me;
+    private User other;
+    private User third;
+
+    private Event sharedSlotPublic;
+    private Event sharedSlotInvited;
+    private Event organizedAndInvited;
+    private Event publicWithInvitation;
+    private Event notInvited;
+
+    @BeforeEach
+    void setUp() {
+        Role role = entityManager.persist(new Role("ACCESS_TEST", "Access filter test role"));
+        me = user("access_me", role);
+        other = user("access_other", role);
+        third = user("access_third", role);
+
+        // Three events in one (date, start time) slot - only the ID orders them
+        sharedSlotPublic = event("Shared slot public", DAY, 10, EventType.PUBLIC, other);
+        event("Shared slot own public", DAY, 10, EventType.PUBLIC, me);
+        sharedSlotInvited = event("Shared slot invited", DAY, 10, EventType.PRIVATE, other, me);
+
+        event("Own private", DAY.plusDays(1), 9, EventType.PRIVATE, me, third);
+        notInvited = event("Private of others", DAY.plusDays(1), 9, EventType.PRIVATE, other, third);
+        event("Past public", DAY.minusDays(30), 8, EventType.PUBLIC, third);
+        event("Invited later", DAY.plusDays(2), 14, EventType.PRIVATE, third, me, other);
+
+        // Rows the services no longer create but older data may hold: the UNION ALL branches must not repeat them
+        organizedAndInvited = event("Own private, self-invited", DAY.plusDays(1), 9, EventType.PRIVATE, me, me);
+        publicWithInvitation = event("Public with invitation", DAY.plusDays(3), 11, EventType.PUBLIC, other, me);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void accessibleEventsMatchTheOrPredicate() {
+        for (User user : List.of(me, other, third)) {
+            List<Long> expected = referenceIds(user);
+            assertEquals(expected, allIds(user), "accessible events of " + user.getUsername());
+            assertEquals(expected.size(), eventRepository.countAccessibleEvents(user.getId()),
+                    "accessible count of " + user.getUsername());
+        }
+    }
+
+    @Test
+    void eachAccessRuleIsCovered() {
+        List<Long> ids = allIds(me);
+
+        assertTrue(ids.contains(sharedSlotPublic.getId()), "PUBLIC event of someone else");
+        assertTrue(ids.contains(sharedSlotInvited.getId()), "PRIVATE event the user is invited to");
+        assertFalse(ids.contains(notInvited.getId()), "PRIVATE event the user is not invited to");
+        assertEquals(1, ids.stream().filter(organizedAndInvited.getId()::equals).count(), "own event with a self-invitation");
+        assertEquals(1, ids.stream().filter(publicWithInvitation.getId()::equals).count(), "PUBLIC event with an invitation");
+    }
+
+    @Test
+    void offsetPagesAreSlicesOfTheFullOrder() {
+        List<Long> expected = referenceIds(me);
+        for (int size = 1; size <= 4; size++) {
+            for (int page = 0; page * size <= expected.size(); page++) {
+                long offset = (long) page * size;
+                EventCursor origin = EventCursor.origin();
+                List<Long> ids = eventRepository.findAccessibleEventIds(me.getId(), origin.getEventDate(),
+                        origin.getStartTime(), origin.getId(), offset + size, size, offset);
+
+                int from = (int) Math.min(offset, expected.size());
+                assertEquals(expected.subList(from, Math.min(from + size, expected.size())), ids,
+                        "page " + page + " of size " + size);
+            }
+        }
+    }
+
+    @Test
+    void keysetPagesVisitEveryEventOnce() {
+        List<Long> expected = referenceIds(me);
+        for (int size = 1; size <= 4; size++) {
+            List<Long> visited = new ArrayList<>();
+            EventCursor cursor = EventCursor.origin();
+            List<Long> ids;
+            do {
+                ids = eventRepository.findAccessibleEventIds(me.getId(), cursor.getEventDate(), cursor.getStartTime(),
+                        cursor.getId(), size, size, 0);
+                visited.addAll(ids);
+                if (!ids.isEmpty()) {
+                    Event last = entityManager.find(Event.class, ids.get(ids.size() - 1));
+                    cursor = new EventCursor(last.getEventDate(), last.getStartTime(), last.getId());
+                }
+            } while (ids.size() == size);
+
+            assertEquals(expected, visited, "keyset pages of size " + size);
+        }
+    }
+
+    @Test
+    void cursorOnATiedSlotContinuesWithTheNextId() {
+        // Cursor on the first event of the shared slot: the other two events of that slot come next
+        List<Long> expected = referenceIds(me);
+        int position = expected.indexOf(sharedSlotPublic.getId());
+        Event tied = entityManager.find(Event.class, sharedSlotPublic.getId());
+
+        List<Long> ids = eventRepository.findAccessibleEventIds(me.getId(), tied.getEventDate(), tied.getStartTime(),
+                tied.getId(), 2, 2, 0);
+
+        assertEquals(expected.subList(position + 1, position + 3), ids);
+    }
+
+    // ========== HELPERS ==========
+
+    // The predicate the UNION ALL branches replaced, as the reference result
+    private List<Long> referenceIds(User user) {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT e.id FROM Event e WHERE " + EventRepository.ACCESSIBLE_BY_USER +
+                        " ORDER BY e.eventDate, e.startTime, e.id", Long.class)
+                .setParameter("userId", user.getId())
+                .getResultList();
+    }
+
+    private List<Long> allIds(User user) {
+        EventCursor origin = EventCursor.origin();
+        return eventRepository.findAccessibleEventIds(user.getId(), origin.getEventDate(), origin.getStartTime(),
+                origin.getId(), 1000, 1000, 0);
+    }
+
+    private User user(String username, Role role) {
+        User user = new User(username, username + "@example.com", "password", username);
+        user.setRole(role);
+        return entityManager.persist(user);
+    }
+
+    private Event event(String title, LocalDate date, int hour, EventType type, User organizer, User... invitees) {
+        Event event = new Event(title, "Access filter test event", date, LocalTime.of(hour, 0),
+                LocalTime.of(hour + 1, 0), "Test venue", type, organizer);
+        event.getInvitedUsers().addAll(List.of(invitees));
+        return entityManager.persist(event);
+    }
+}
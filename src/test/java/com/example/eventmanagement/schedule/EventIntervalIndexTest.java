@@ -0,0 +1,139 @@
+package com.example.eventmanagement.schedule;
+
+import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.event.EventChangedEvent;
+import com.example.eventmanagement.model.Event;
+import com.example.eventmanagement.model.User;
+import com.example.eventmanagement.repository.EventRepository;
+import com.example.eventmanagement.util.ApplicationLogger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EventIntervalIndexTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(7);
+
+    private EventIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventIntervalIndex(Mockito.mock(EventRepository.class), new SimpleMeterRegistry(), new ApplicationLogger());
+        index.load();
+    }
+
+    @Test
+    void overlappingBookingsAtTheVenueAreFound() {
+        put(1L, "Main Hall", DAY, "10:00", "12:00", 10L);
+        put(2L, "Main Hall", DAY, "13:00", "14:00", 10L);
+        put(3L, "Side Room", DAY, "10:00", "12:00", 10L);
+
+        assertEquals(List.of(1L), venueConflicts("Main Hall", DAY, "11:00", "13:00"));
+        assertEquals(List.of(1L, 2L), venueConflicts("Main Hall", DAY, "11:30", "13:30"));
+    }
+
+    @Test
+    void venuesCompareWithoutCaseOrExtraSpaces() {
+        put(1L, "Dhaka  Hall ", DAY, "10:00", "12:00", 10L);
+
+        assertEquals(List.of(1L), venueConflicts("dhaka hall", DAY, "11:00", "11:30"));
+    }
+
+    @Test
+    void touchingSlotsDoNotOverlap() {
+        put(1L, "Main Hall", DAY, "10:00", "12:00", 10L);
+
+        assertEquals(List.of(), venueConflicts("Main Hall", DAY, "12:00", "13:00"));
+        assertEquals(List.of(), venueConflicts("Main Hall", DAY, "09:00", "10:00"));
+        assertEquals(List.of(1L), venueConflicts("Main Hall", DAY, "11:59", "13:00"));
+    }
+
+    @Test
+    void longBookingStartingEarlierInTheDayIsFound() {
+        put(1L, "Main Hall", DAY, "00:00", "23:59", 10L);
+
+        assertEquals(List.of(1L), venueConflicts("Main Hall", DAY, "23:00", "23:30"));
+    }
+
+    @Test
+    void previousDayBookingsNeverOverlap() {
+        // Events end the day they start, so the scan over the preceding day must not report them
+        put(1L, "Main Hall", DAY.minusDays(1), "22:00", "23:59", 10L);
+        put(2L, "Main Hall", DAY.minusDays(1), "00:00", "23:59", 10L);
+
+        assertEquals(List.of(), venueConflicts("Main Hall", DAY, "00:00", "01:00"));
+        assertEquals(List.of(), venueConflicts("Main Hall", DAY, "23:00", "23:59"));
+    }
+
+    @Test
+    void excludedEventIsSkipped() {
+        put(1L, "Main Hall", DAY, "10:00", "12:00", 10L);
+
+        assertEquals(List.of(), index.findVenueConflicts("Main Hall", DAY, LocalTime.parse("10:00"),
+                LocalTime.parse("11:00"), 1L).stream().map(EventIntervalIndex.Booking::getEventId).toList());
+    }
+
+    @Test
+    void participantsAreTheOrganizerAndInvitees() {
+        put(1L, "Main Hall", DAY, "10:00", "12:00", 10L, 20L);
+        put(2L, "Side Room", DAY, "11:00", "13:00", 30L, 20L);
+
+        Map<Long, List<EventIntervalIndex.Booking>> conflicts = index.findParticipantConflicts(List.of(10L, 20L, 30L, 40L),
+                DAY, LocalTime.parse("11:30"), LocalTime.parse("12:30"), null);
+
+        assertEquals(Set.of(10L, 20L, 30L), conflicts.keySet());
+        assertEquals(List.of(1L, 2L), conflicts.get(20L).stream().map(EventIntervalIndex.Booking::getEventId).toList());
+        assertEquals(List.of(2L), conflicts.get(30L).stream().map(EventIntervalIndex.Booking::getEventId).toList());
+    }
+
+    @Test
+    void movedAndDeletedEventsLeaveTheirOldSlot() {
+        Event event = put(1L, "Main Hall", DAY, "10:00", "12:00", 10L, 20L);
+
+        event.setStartTime(LocalTime.parse("14:00"));
+        event.setEndTime(LocalTime.parse("15:00"));
+        index.onEventChanged(EventChangedEvent.updated(event, Set.of()));
+        assertEquals(List.of(), venueConflicts("Main Hall", DAY, "10:00", "12:00"));
+        assertEquals(List.of(1L), venueConflicts("Main Hall", DAY, "14:30", "16:00"));
+        assertEquals(Set.of(10L), index.findParticipantConflicts(List.of(10L, 20L), DAY,
+                LocalTime.parse("14:00"), LocalTime.parse("15:00"), null).keySet());
+
+        index.onEventChanged(EventChangedEvent.deleted(event));
+        assertEquals(0, index.size());
+        assertEquals(List.of(), venueConflicts("Main Hall", DAY, "14:30", "16:00"));
+    }
+
+    // ========== HELPERS ==========
+
+    private List<Long> venueConflicts(String location, LocalDate date, String start, String end) {
+        return index.findVenueConflicts(location, date, LocalTime.parse(start), LocalTime.parse(end), null).stream()
+                .map(EventIntervalIndex.Booking::getEventId)
+                .toList();
+    }
+
+    private Event put(Long id, String location, LocalDate date, String start, String end, Long organizerId, Long... invitees) {
+        Event event = new Event("Event " + id, "", date, LocalTime.parse(start), LocalTime.parse(end), location,
+                invitees.length > 0 ? EventType.PRIVATE : EventType.PUBLIC, user(organizerId));
+        event.setId(id);
+        for (Long invitee : invitees) {
+            event.getInvitedUsers().add(user(invitee));
+        }
+        index.onEventChanged(EventChangedEvent.created(event));
+        return event;
+    }
+
+    private User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.eventmanagement.search;
+
+import com.example.eventmanagement.enums.EventSearchField;
+import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.event.EventChangedEvent;
+import com.example.eventmanagement.model.Event;
+import com.example.eventmanagement.model.User;
+import com.example.eventmanagement.repository.EventRepository;
+import com.example.eventmanagement.util.ApplicationLogger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventSearchIndexTest {
+
+    private static final Set<EventSearchField> ALL_FIELDS = EnumSet.allOf(EventSearchField.class);
+
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        EventRepository eventRepository = Mockito.mock(EventRepository.class);
+        index = new EventSearchIndex(eventRepository, new SimpleMeterRegistry(), new ApplicationLogger());
+        ReflectionTestUtils.setField(index, "enabled", true);
+        index.load();
+    }
+
+    @Test
+    void tokensAreCaseFoldedAndAccentStripped() {
+        assertEquals(List.of("cafe", "workshop", "2024"), EventSearchIndex.tokenize("Café-WORKSHOP, 2024!"));
+        assertEquals(List.of(), EventSearchIndex.tokenize("  -- "));
+        assertEquals(List.of(), EventSearchIndex.tokenize(null));
+    }
+
+    @Test
+    void queryWordsMatchAsPrefixes() {
+        put(1L, "Spring Workshop", "Dhaka", "Hands-on session", EventType.PUBLIC, 10L);
+
+        assertEquals(List.of(1L), ids("work"));
+        assertEquals(List.of(1L), ids("WORKSHOP"));
+        assertEquals(List.of(1L), ids("dhá"));
+        assertEquals(List.of(), ids("shop"));
+    }
+
+    @Test
+    void singleLetterWordsOnlyMatchExactly() {
+        put(1L, "Workshop", "Room B", "", EventType.PUBLIC, 10L);
+
+        assertEquals(List.of(), ids("w"));
+        assertEquals(List.of(1L), ids("b"));
+    }
+
+    @Test
+    void everyQueryWordMustMatch() {
+        put(1L, "Java meetup", "Dhaka", "", EventType.PUBLIC, 10L);
+        put(2L, "Java conference", "Chittagong", "", EventType.PUBLIC, 10L);
+
+        assertEquals(List.of(1L), ids("java dhaka"));
+        assertEquals(List.of(), ids("java sylhet"));
+    }
+
+    @Test
+    void titleOutranksLocationOutranksDescription() {
+        put(1L, "Planning", "Office", "Talk about kotlin", EventType.PUBLIC, 10L);
+        put(2L, "Kotlin night", "Office", "Planning", EventType.PUBLIC, 10L);
+        put(3L, "Planning", "Kotlin hall", "Planning", EventType.PUBLIC, 10L);
+
+        assertEquals(List.of(2L, 3L, 1L), ids("kotlin"));
+    }
+
+    @Test
+    void exactWordsOutrankPrefixes() {
+        put(1L, "Workshops", "Office", "", EventType.PUBLIC, 10L);
+        put(2L, "Workshop", "Office", "", EventType.PUBLIC, 10L);
+
+        assertEquals(List.of(2L, 1L), ids("workshop"));
+    }
+
+    @Test
+    void fieldsCanBeRestricted() {
+        put(1L, "Dhaka tour", "Sylhet", "", EventType.PUBLIC, 10L);
+        put(2L, "Tour", "Dhaka", "", EventType.PUBLIC, 10L);
+
+        List<Long> byLocation = index.search("dhaka", EnumSet.of(EventSearchField.LOCATION)).stream()
+                .map(EventSearchIndex.Hit::getEventId)
+                .toList();
+        assertEquals(List.of(2L), byLocation);
+    }
+
+    @Test
+    void updatesReplaceTheIndexedTextAndDeletesRemoveIt() {
+        Event event = put(1L, "Old title", "Dhaka", "", EventType.PUBLIC, 10L);
+
+        event.setTitle("New title");
+        index.onEventChanged(EventChangedEvent.updated(event, Set.of()));
+        assertEquals(List.of(), ids("old"));
+        assertEquals(List.of(1L), ids("new"));
+
+        index.onEventChanged(EventChangedEvent.deleted(event));
+        assertEquals(List.of(), ids("new"));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void hitsCarryTheIndexedAccessFields() {
+        put(1L, "Board meeting", "Office", "", EventType.PRIVATE, 10L);
+
+        EventSearchIndex.Hit hit = index.search("board", ALL_FIELDS).get(0);
+        assertEquals(EventType.PRIVATE, hit.getEventType());
+        assertEquals(10L, hit.getOrganizerId());
+    }
+
+    @Test
+    void matchesUsesTheSameRulesAsSearch() {
+        List<String> texts = List.of("Spring Workshop", "Dhaka");
+
+        assertTrue(EventSearchIndex.matches("work dhaka", texts));
+        assertFalse(EventSearchIndex.matches("work sylhet", texts));
+        assertFalse(EventSearchIndex.matches("w", texts));
+    }
+
+    @Test
+    void disabledIndexLoadsAndIndexesNothing() {
+        EventRepository eventRepository = Mockito.mock(EventRepository.class);
+        EventSearchIndex disabled = new EventSearchIndex(eventRepository, new SimpleMeterRegistry(), new ApplicationLogger());
+        disabled.load();
+        disabled.onEventChanged(EventChangedEvent.created(event(1L, "Workshop", "Dhaka", "", EventType.PUBLIC, 10L)));
+
+        assertFalse(disabled.isEnabled());
+        assertEquals(0, disabled.size());
+        Mockito.verifyNoInteractions(eventRepository);
+    }
+
+    // ========== HELPERS ==========
+
+    private List<Long> ids(String query) {
+        return index.search(query, ALL_FIELDS).stream()
+                .map(EventSearchIndex.Hit::getEventId)
+                .toList();
+    }
+
+    private Event put(Long id, String title, String location, String description, EventType type, Long organizerId) {
+        Event event = event(id, title, location, description, type, organizerId);
+        index.onEventChanged(EventChangedEvent.created(event));
+        return event;
+    }
+
+    private Event event(Long id, String title, String location, String description, EventType type, Long organizerId) {
+        User organizer = new User();
+        organizer.setId(organizerId);
+        Event event = new Event(title, description, LocalDate.now().plusDays(1), LocalTime.of(10, 0),
+                LocalTime.of(11, 0), location, type, organizer);
+        event.setId(id);
+        return event;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.eventmanagement.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenDenyListTest {
+
+    private TokenDenyList tokenDenyList;
+
+    @BeforeEach
+    void setUp() {
+        tokenDenyList = new TokenDenyList();
+        ReflectionTestUtils.setField(tokenDenyList, "tokenValidity", 86_400_000L);
+    }
+
+    @Test
+    void tokensIssuedBeforeRevocationAreRejected() {
+        long issuedAt = System.currentTimeMillis() - 1;
+        tokenDenyList.revokeUser(1L);
+
+        assertTrue(tokenDenyList.isRevoked(1L, issuedAt));
+        assertTrue(tokenDenyList.isRevoked(1L, Long.MIN_VALUE));
+        assertFalse(tokenDenyList.isRevoked(2L, issuedAt));
+    }
+
+    @Test
+    void loginRightAfterRevocationIsAccepted() {
+        tokenDenyList.revokeUser(1L);
+        long revokedAt = revokedAt(1L);
+
+        // A token from a login in the same second as the revocation (e.g. right after a password change)
+        assertFalse(tokenDenyList.isRevoked(1L, revokedAt));
+        assertFalse(tokenDenyList.isRevoked(1L, revokedAt + 1));
+        assertTrue(tokenDenyList.isRevoked(1L, revokedAt - 1));
+    }
+
+    @Test
+    void revokeUsersCoversEveryUser() {
+        long issuedAt = System.currentTimeMillis() - 1;
+        tokenDenyList.revokeUsers(List.of(1L, 2L));
+
+        assertTrue(tokenDenyList.isRevoked(1L, issuedAt));
+        assertTrue(tokenDenyList.isRevoked(2L, issuedAt));
+        assertFalse(tokenDenyList.isRevoked(3L, issuedAt));
+    }
+
+    @SuppressWarnings("unchecked")
+    private long revokedAt(Long userId) {
+        return ((Map<Long, Long>) ReflectionTestUtils.getField(tokenDenyList, "revokedAt")).get(userId);
+    }
+}
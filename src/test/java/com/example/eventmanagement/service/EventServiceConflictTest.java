@@ -0,0 +1,104 @@
+package com.example.eventmanagement.service;
+
+import com.example.eventmanagement.dto.EventRequestDTO;
+import com.example.eventmanagement.dto.EventResponseDTO;
+import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.model.Event;
+import com.example.eventmanagement.model.Role;
+import com.example.eventmanagement.model.User;
+import com.example.eventmanagement.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * With the REJECT venue policy (the default) the booking check reads the database, so an event written by another
+ * instance (never seen by this instance's interval index) still blocks its slot
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EventServiceConflictTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(20);
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    private Event booked;
+
+    @BeforeEach
+    void setUp() {
+        Role role = new Role("CONFLICT_TEST", "Conflict test role");
+        entityManager.persist(role);
+        User organizer = new User("conflict_organizer", "conflict_organizer@example.com", "password", "Organizer");
+        organizer.setRole(role);
+        entityManager.persist(organizer);
+
+        // Persisted directly: no change event, so the interval index does not know about it
+        booked = new Event("Booked elsewhere", "Conflict test event", DAY, LocalTime.of(10, 0), LocalTime.of(12, 0),
+                "Main  Hall", EventType.PUBLIC, organizer);
+        entityManager.persist(booked);
+        entityManager.flush();
+
+        AuthenticatedUser principal = new AuthenticatedUser(organizer.getId(), organizer.getUsername(), "",
+                true, role.getName(), List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void overlappingBookingWrittenElsewhereIsRejected() {
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> eventService.createEvent(request("Overlap", "main hall", "11:00", "13:00"), request));
+
+        assertEquals("Location 'main hall' is already booked on " + DAY + " from 10:00 to 12:00", error.getMessage());
+    }
+
+    @Test
+    void touchingSlotAndOtherVenuesAreAllowed() {
+        EventResponseDTO after = eventService.createEvent(request("Right after", "Main Hall", "12:00", "13:00"), request);
+        EventResponseDTO elsewhere = eventService.createEvent(request("Elsewhere", "Side Room", "10:30", "11:30"), request);
+
+        assertEquals("Right after", after.getTitle());
+        assertEquals("Elsewhere", elsewhere.getTitle());
+    }
+
+    @Test
+    void anEventDoesNotConflictWithItself() {
+        EventResponseDTO updated = eventService.updateEvent(booked.getId(),
+                request("Booked elsewhere", "Main Hall", "10:30", "12:00"), null, request);
+
+        assertEquals(LocalTime.of(10, 30), updated.getStartTime());
+    }
+
+    private EventRequestDTO request(String title, String location, String start, String end) {
+        return new EventRequestDTO(title, "Conflict test event", DAY, LocalTime.parse(start), LocalTime.parse(end),
+                location, EventType.PUBLIC, null);
+    }
+}
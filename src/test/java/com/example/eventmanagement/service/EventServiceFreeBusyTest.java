@@ -0,0 +1,167 @@
+package com.example.eventmanagement.service;
+
+import com.example.eventmanagement.dto.FreeBusyRequestDTO;
+import com.example.eventmanagement.dto.FreeBusyResponseDTO;
+import com.example.eventmanagement.dto.TimeSlotDTO;
+import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.model.Event;
+import com.example.eventmanagement.model.Role;
+import com.example.eventmanagement.model.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The free/busy sweep packs [user][start][end] into longs; these cases pin down merging,
+ * clipping to the daily window and the minimum slot length over one and several days
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EventServiceFreeBusyTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(40);
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Role role;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        role = new Role("FREE_BUSY_TEST", "Free/busy test role");
+        entityManager.persist(role);
+        alice = user("freebusy_alice");
+        bob = user("freebusy_bob");
+    }
+
+    @Test
+    void overlappingAndTouchingEventsMergeIntoOneBusySlot() {
+        event(alice, DAY, "09:00", "10:00");
+        event(alice, DAY, "09:30", "11:00");
+        event(alice, DAY, "11:00", "12:00");
+        event(alice, DAY, "13:00", "14:00");
+
+        FreeBusyResponseDTO result = freeBusy(Set.of(alice), DAY, DAY, null, null, null);
+
+        assertEquals(List.of(DAY + " 09:00-12:00", DAY + " 13:00-14:00"), slots(result.getBusy().get(alice.getId())));
+        assertEquals(List.of(DAY + " 00:00-09:00", DAY + " 12:00-13:00", DAY + " 14:00-23:59:59"), slots(result.getFreeSlots()));
+    }
+
+    @Test
+    void everyoneMustBeFreeAndInvitationsCountAsBusy() {
+        event(alice, DAY, "09:00", "10:00");
+        event(bob, DAY, "10:30", "11:30", alice);
+
+        FreeBusyResponseDTO result = freeBusy(Set.of(alice, bob), DAY, DAY, "08:00", "12:00", 30);
+
+        assertEquals(List.of(DAY + " 09:00-10:00", DAY + " 10:30-11:30"), slots(result.getBusy().get(alice.getId())));
+        assertEquals(List.of(DAY + " 10:30-11:30"), slots(result.getBusy().get(bob.getId())));
+        assertEquals(List.of(DAY + " 08:00-09:00", DAY + " 10:00-10:30", DAY + " 11:30-12:00"), slots(result.getFreeSlots()));
+    }
+
+    @Test
+    void busyTimeIsClippedToTheDailyWindow() {
+        event(alice, DAY, "07:00", "09:00");
+        event(bob, DAY, "17:00", "19:00");
+
+        FreeBusyResponseDTO result = freeBusy(Set.of(alice, bob), DAY, DAY, "08:00", "18:00", 30);
+
+        assertEquals(List.of(DAY + " 09:00-17:00"), slots(result.getFreeSlots()));
+    }
+
+    @Test
+    void gapsShorterThanTheMinimumAreSkipped() {
+        event(alice, DAY, "09:00", "10:00");
+        event(bob, DAY, "10:20", "11:00");
+
+        assertEquals(List.of(DAY + " 08:00-09:00", DAY + " 11:00-12:00"),
+                slots(freeBusy(Set.of(alice, bob), DAY, DAY, "08:00", "12:00", 30).getFreeSlots()));
+        assertEquals(List.of(DAY + " 08:00-09:00", DAY + " 10:00-10:20", DAY + " 11:00-12:00"),
+                slots(freeBusy(Set.of(alice, bob), DAY, DAY, "08:00", "12:00", 20).getFreeSlots()));
+    }
+
+    @Test
+    void multiDayWindowsKeepDaysApart() {
+        event(alice, DAY, "09:00", "23:59");
+        event(bob, DAY.plusDays(2), "00:00", "10:00");
+
+        FreeBusyResponseDTO result = freeBusy(Set.of(alice, bob), DAY, DAY.plusDays(2), "08:00", "12:00", 30);
+
+        assertEquals(List.of(
+                DAY + " 08:00-09:00",
+                DAY.plusDays(1) + " 08:00-12:00",
+                DAY.plusDays(2) + " 10:00-12:00"), slots(result.getFreeSlots()));
+        assertEquals(List.of(DAY.plusDays(2) + " 00:00-10:00"), slots(result.getBusy().get(bob.getId())));
+    }
+
+    @Test
+    void usersWithoutEventsAreFreeAllDay() {
+        FreeBusyResponseDTO result = freeBusy(Set.of(alice), DAY, DAY, null, null, null);
+
+        assertEquals(List.of(), result.getBusy().get(alice.getId()));
+        assertEquals(List.of(DAY + " 00:00-23:59:59"), slots(result.getFreeSlots()));
+    }
+
+    @Test
+    void invalidWindowsAndUnknownUsersAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> freeBusy(Set.of(alice), DAY, DAY.minusDays(1), null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> freeBusy(Set.of(alice), DAY, DAY.plusDays(31), null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> freeBusy(Set.of(alice), DAY, DAY, "12:00", "12:00", null));
+
+        FreeBusyRequestDTO unknown = new FreeBusyRequestDTO(Set.of(bob.getId() + 1000), DAY, DAY);
+        assertThrows(NoSuchElementException.class, () -> eventService.getFreeBusy(unknown));
+    }
+
+    // ========== HELPERS ==========
+
+    private FreeBusyResponseDTO freeBusy(Set<User> users, LocalDate from, LocalDate to,
+                                         String dayStart, String dayEnd, Integer minDuration) {
+        FreeBusyRequestDTO request = new FreeBusyRequestDTO(
+                users.stream().map(User::getId).collect(Collectors.toSet()), from, to);
+        request.setDayStart(dayStart == null ? null : LocalTime.parse(dayStart));
+        request.setDayEnd(dayEnd == null ? null : LocalTime.parse(dayEnd));
+        request.setMinDurationMinutes(minDuration);
+        return eventService.getFreeBusy(request);
+    }
+
+    private List<String> slots(List<TimeSlotDTO> slots) {
+        return slots.stream()
+                .map(slot -> slot.getDate() + " " + slot.getStartTime() + "-" + slot.getEndTime())
+                .toList();
+    }
+
+    private User user(String username) {
+        User user = new User(username, username + "@example.com", "password", username);
+        user.setRole(role);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private void event(User organizer, LocalDate date, String start, String end, User... invitees) {
+        Event event = new Event("Busy " + organizer.getUsername() + " " + date + " " + start, "Free/busy test event",
+                date, LocalTime.parse(start), LocalTime.parse(end), "Room " + start,
+                invitees.length > 0 ? EventType.PRIVATE : EventType.PUBLIC, organizer);
+        event.getInvitedUsers().addAll(List.of(invitees));
+        entityManager.persist(event);
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.eventmanagement.service;
+
+import com.example.eventmanagement.dto.EventInvitationDTO;
+import com.example.eventmanagement.dto.EventInvitationPatchDTO;
+import com.example.eventmanagement.dto.EventRequestDTO;
+import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.model.Event;
+import com.example.eventmanagement.model.Role;
+import com.example.eventmanagement.model.User;
+import com.example.eventmanagement.repository.EventRepository;
+import com.example.eventmanagement.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Invitation writes only touch the rows that change: invite, remove and PATCH /events/invite
+ * are checked against event_invitations after each call, rejected requests must leave the row version alone
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EventServiceInvitationTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    private User organizer;
+    private User invited;
+    private User guest;
+    private User stranger;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        Role role = new Role("INVITATION_TEST", "Invitation test role");
+        entityManager.persist(role);
+        organizer = user("invite_organizer", role);
+        invited = user("invite_invited", role);
+        guest = user("invite_guest", role);
+        stranger = user("invite_stranger", role);
+
+        event = new Event("Invitation test", "Invitation test event", LocalDate.now().plusDays(5),
+                LocalTime.of(10, 0), LocalTime.of(11, 0), "Test venue", EventType.PRIVATE, organizer);
+        event.getInvitedUsers().add(invited);
+        entityManager.persist(event);
+        entityManager.flush();
+        entityManager.clear();
+
+        AuthenticatedUser principal = new AuthenticatedUser(organizer.getId(), organizer.getUsername(), "",
+                true, role.getName(), List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void inviteAddsOnlyNewInvitees() {
+        eventService.inviteUsersToEvent(new EventInvitationDTO(event.getId(), Set.of(invited.getId(), guest.getId())),
+                null, request);
+
+        assertEquals(Set.of(invited.getId(), guest.getId()), invitees());
+    }
+
+    @Test
+    void removeDeletesOnlyCurrentInvitees() {
+        eventService.removeUsersFromEvent(new EventInvitationDTO(event.getId(), Set.of(invited.getId(), stranger.getId())),
+                null, request);
+
+        assertEquals(Set.of(), invitees());
+    }
+
+    @Test
+    void patchAddsAndRemovesInOneCall() {
+        eventService.updateInvitations(new EventInvitationPatchDTO(event.getId(), Set.of(guest.getId()), Set.of(invited.getId())),
+                null, request);
+
+        assertEquals(Set.of(guest.getId()), invitees());
+    }
+
+    @Test
+    void patchWithNothingToChangeLeavesInvitationsAlone() {
+        // Adding a current invitee and removing a user who is not invited are both no-ops
+        eventService.updateInvitations(new EventInvitationPatchDTO(event.getId(), Set.of(invited.getId()), Set.of(stranger.getId())),
+                null, request);
+
+        assertEquals(Set.of(invited.getId()), invitees());
+    }
+
+    @Test
+    void patchRejectsUsersBothAddedAndRemoved() {
+        EventInvitationPatchDTO patch = new EventInvitationPatchDTO(event.getId(),
+                Set.of(guest.getId(), stranger.getId()), Set.of(invited.getId(), stranger.getId()));
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> eventService.updateInvitations(patch, null, request));
+
+        assertEquals("Users cannot be both added and removed: [" + stranger.getId() + "]", error.getMessage());
+        assertEquals(Set.of(invited.getId()), invitees());
+    }
+
+    @Test
+    void unknownUsersAreRejected() {
+        long missingId = stranger.getId() + 1000;
+
+        assertThrows(NoSuchElementException.class, () -> eventService.updateInvitations(
+                new EventInvitationPatchDTO(event.getId(), Set.of(missingId), Set.of()), null, request));
+        assertThrows(NoSuchElementException.class, () -> eventService.removeUsersFromEvent(
+                new EventInvitationDTO(event.getId(), Set.of(missingId)), null, request));
+    }
+
+    @Test
+    void staleIfMatchIsRejectedBeforeAnyWrite() {
+        long version = currentVersion();
+
+        assertThrows(OptimisticLockingFailureException.class, () -> eventService.inviteUsersToEvent(
+                new EventInvitationDTO(event.getId(), Set.of(guest.getId())), version - 1, request));
+
+        assertEquals(Set.of(invited.getId()), invitees());
+        assertEquals(version, currentVersion());
+    }
+
+    @Test
+    void updateRejectsSelfInviteBeforeClaimingTheVersion() {
+        long version = currentVersion();
+        EventRequestDTO update = new EventRequestDTO("Invitation test", "Invitation test event",
+                LocalDate.now().plusDays(5), LocalTime.of(10, 0), LocalTime.of(11, 0), "Test venue",
+                EventType.PRIVATE, Set.of(invited.getId(), organizer.getId()));
+
+        assertThrows(IllegalArgumentException.class, () -> eventService.updateEvent(event.getId(), update, null, request));
+
+        assertEquals(version, currentVersion());
+    }
+
+    // ========== HELPERS ==========
+
+    private long currentVersion() {
+        entityManager.clear();
+        return entityManager.find(Event.class, event.getId()).getVersion();
+    }
+
+    private Set<Long> invitees() {
+        return new HashSet<>(eventRepository.findInvitedUserIds(event.getId()));
+    }
+
+    private User user(String username, Role role) {
+        User user = new User(username, username + "@example.com", "password", username);
+        user.setRole(role);
+        entityManager.persist(user);
+        return user;
+    }
+}
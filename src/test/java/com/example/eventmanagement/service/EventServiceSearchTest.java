@@ -0,0 +1,159 @@
+package com.example.eventmanagement.service;
+
+import com.example.eventmanagement.dto.EventResponseDTO;
+import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.event.EventChangedEvent;
+import com.example.eventmanagement.model.Event;
+import com.example.eventmanagement.model.Role;
+import com.example.eventmanagement.model.User;
+import com.example.eventmanagement.search.EventSearchIndex;
+import com.example.eventmanagement.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Search hits come from the per-instance index, but what is returned is decided by the database rows:
+ * access by current type, organizer and invitations, and the text must still match
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EventServiceSearchTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Event> indexed = new ArrayList<>();
+
+    private User me;
+    private Event publicEvent;
+    private Event ownPrivate;
+    private Event invitedPrivate;
+    private Event otherPrivate;
+
+    @BeforeEach
+    void setUp() {
+        Role role = new Role("SEARCH_TEST", "Search test role");
+        entityManager.persist(role);
+        me = user("search_me", role);
+        User other = user("search_other", role);
+
+        publicEvent = event("Quokka public", EventType.PUBLIC, other);
+        ownPrivate = event("Quokka own", EventType.PRIVATE, me, other);
+        invitedPrivate = event("Quokka invited", EventType.PRIVATE, other, me);
+        otherPrivate = event("Quokka hidden", EventType.PRIVATE, other, other);
+        entityManager.flush();
+        entityManager.clear();
+
+        AuthenticatedUser principal = new AuthenticatedUser(me.getId(), me.getUsername(), "",
+                true, role.getName(), List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // The index is not transactional: take the rolled back events out again
+        indexed.forEach(event -> eventSearchIndex.onEventChanged(EventChangedEvent.deleted(event)));
+        ReflectionTestUtils.setField(eventSearchIndex, "enabled", true);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void searchReturnsOnlyAccessibleEvents() {
+        assertEquals(List.of(publicEvent.getId(), ownPrivate.getId(), invitedPrivate.getId()).stream().sorted().toList(),
+                ids(eventService.searchEvents("quokka", 0, 10)).stream().sorted().toList());
+    }
+
+    @Test
+    void eventMadePrivateOnAnotherInstanceIsNotReturned() {
+        // The row changed without this instance's index hearing about it
+        entityManager.createQuery("UPDATE Event e SET e.eventType = :type WHERE e.id = :id")
+                .setParameter("type", EventType.PRIVATE)
+                .setParameter("id", publicEvent.getId())
+                .executeUpdate();
+
+        assertEquals(List.of(), ids(eventService.searchEvents("public", 0, 10)));
+        assertEquals(false, ids(eventService.getEventsByLocation("burrow")).contains(publicEvent.getId()));
+    }
+
+    @Test
+    void hitsWhoseTextChangedAreDropped() {
+        entityManager.createQuery("UPDATE Event e SET e.title = 'Renamed' WHERE e.id = :id")
+                .setParameter("id", publicEvent.getId())
+                .executeUpdate();
+
+        assertEquals(List.of(), ids(eventService.searchEvents("quokka public", 0, 10)));
+    }
+
+    @Test
+    void pagesCountOnlyAccessibleEvents() {
+        List<Long> all = ids(eventService.searchEvents("quokka", 0, 10));
+
+        assertEquals(all.subList(0, 2), ids(eventService.searchEvents("quokka", 0, 2)));
+        assertEquals(all.subList(2, 3), ids(eventService.searchEvents("quokka", 1, 2)));
+    }
+
+    @Test
+    void locationSearchAppliesTheAccessRule() {
+        assertEquals(List.of(publicEvent.getId(), ownPrivate.getId(), invitedPrivate.getId()).stream().sorted().toList(),
+                ids(eventService.getEventsByLocation("burrow")).stream().sorted().toList());
+    }
+
+    @Test
+    void disabledIndexFallsBackToTheDatabase() {
+        ReflectionTestUtils.setField(eventSearchIndex, "enabled", false);
+
+        assertEquals(List.of(publicEvent.getId(), ownPrivate.getId(), invitedPrivate.getId()),
+                ids(eventService.searchEvents("quokka", 0, 10)));
+        assertEquals(List.of(ownPrivate.getId()), ids(eventService.searchEvents("quokka", 1, 1)));
+        assertEquals(List.of(publicEvent.getId(), ownPrivate.getId(), invitedPrivate.getId()),
+                ids(eventService.getEventsByLocation("Burrow")));
+    }
+
+    // ========== HELPERS ==========
+
+    private List<Long> ids(List<EventResponseDTO> events) {
+        return events.stream().map(EventResponseDTO::getId).toList();
+    }
+
+    private User user(String username, Role role) {
+        User user = new User(username, username + "@example.com", "password", username);
+        user.setRole(role);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Event event(String title, EventType type, User organizer, User... invitees) {
+        // One hour apart so the database fallback returns them in creation order
+        Event event = new Event(title, "Search test event", LocalDate.now().plusDays(3),
+                LocalTime.of(9 + indexed.size(), 0), LocalTime.of(10 + indexed.size(), 0), "Burrow hall", type, organizer);
+        event.getInvitedUsers().addAll(List.of(invitees));
+        entityManager.persist(event);
+        eventSearchIndex.onEventChanged(EventChangedEvent.created(event));
+        indexed.add(event);
+        return event;
+    }
+}
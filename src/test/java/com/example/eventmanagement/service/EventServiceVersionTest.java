@@ -0,0 +1,155 @@
+package com.example.eventmanagement.service;
+
+import com.example.eventmanagement.dto.EventInvitationDTO;
+import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.model.Event;
+import com.example.eventmanagement.model.Role;
+import com.example.eventmanagement.model.User;
+import com.example.eventmanagement.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * GET /events/{id} only probes the version for If-None-Match; a full response takes its ETag from the event it
+ * loaded, so both ways of computing it must agree and move with everything the view shows
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EventServiceVersionTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Role role;
+    private User organizer;
+    private User invited;
+    private User guest;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        role = new Role("VERSION_TEST", "Version test role");
+        entityManager.persist(role);
+        organizer = user("version_organizer");
+        invited = user("version_invited");
+        guest = user("version_guest");
+
+        event = new Event("Version test", "Version test event", LocalDate.now().plusDays(6),
+                LocalTime.of(10, 0), LocalTime.of(11, 0), "Test venue", EventType.PRIVATE, organizer);
+        event.getInvitedUsers().add(invited);
+        entityManager.persist(event);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void probeAndLoadedEventAgreeForOrganizerAndInvitee() {
+        signIn(organizer);
+        assertEquals(probe(), loaded());
+
+        signIn(invited);
+        assertEquals(probe(), loaded());
+    }
+
+    @Test
+    void organizerAndInviteeViewsHaveDifferentTags() {
+        signIn(organizer);
+        String organizerTag = probe();
+        signIn(invited);
+
+        assertNotEquals(organizerTag, probe());
+    }
+
+    @Test
+    void inviteeProfileChangesOnlyTheOrganizerView() {
+        signIn(organizer);
+        String organizerTag = probe();
+        signIn(invited);
+        String inviteeTag = probe();
+
+        rename(invited, "Renamed invitee");
+
+        assertEquals(inviteeTag, probe());
+        assertEquals(inviteeTag, loaded());
+        signIn(organizer);
+        assertNotEquals(organizerTag, probe());
+        assertEquals(probe(), loaded());
+    }
+
+    @Test
+    void organizerProfileAndEventChangesMoveTheTag() {
+        signIn(invited);
+        String before = probe();
+        rename(organizer, "Renamed organizer");
+        String renamed = probe();
+        assertNotEquals(before, renamed);
+
+        signIn(organizer);
+        eventService.inviteUsersToEvent(new EventInvitationDTO(event.getId(), Set.of(guest.getId())), null,
+                new MockHttpServletRequest());
+        entityManager.flush();
+        entityManager.clear();
+        signIn(invited);
+
+        assertNotEquals(renamed, probe());
+        assertEquals(probe(), loaded());
+    }
+
+    // ========== HELPERS ==========
+
+    private String probe() {
+        return eventService.getEventVersion(event.getId()).getEtag();
+    }
+
+    private String loaded() {
+        return eventService.getEventVersion(eventService.getEventById(event.getId())).getEtag();
+    }
+
+    private void rename(User user, String fullName) {
+        entityManager.createQuery("UPDATE User u SET u.fullName = :fullName WHERE u.id = :id")
+                .setParameter("fullName", fullName)
+                .setParameter("id", user.getId())
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    private void signIn(User user) {
+        AuthenticatedUser principal = new AuthenticatedUser(user.getId(), user.getUsername(), "",
+                true, role.getName(), List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private User user(String username) {
+        User user = new User(username, username + "@example.com", "password", username);
+        user.setRole(role);
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.eventmanagement.stream;
+
+import com.example.eventmanagement.enums.EventType;
+import com.example.eventmanagement.event.EventChangedEvent;
+import com.example.eventmanagement.model.Event;
+import com.example.eventmanagement.model.User;
+import com.example.eventmanagement.security.CurrentUserProvider;
+import com.example.eventmanagement.util.ApplicationLogger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EventStreamRegistryTest {
+
+    private EventStreamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new EventStreamRegistry(Mockito.mock(CurrentUserProvider.class), new ObjectMapper(),
+                new SimpleMeterRegistry(), new ApplicationLogger());
+    }
+
+    @Test
+    void privateChangesGoToOrganizerAndInvitees() {
+        Event event = event(EventType.PRIVATE, 10L, 20L, 30L);
+
+        assertEquals(Set.of(10L, 20L, 30L), registry.audience(EventChangedEvent.created(event)));
+        assertEquals(Set.of(10L, 20L), registry.audience(EventChangedEvent.updated(event, Set.of(20L))));
+    }
+
+    @Test
+    void removedInviteesAreToldToo() {
+        Event event = event(EventType.PRIVATE, 10L, 20L);
+
+        assertEquals(Set.of(10L, 20L, 30L, 40L), registry.audience(
+                EventChangedEvent.updated(event, EventType.PRIVATE, Set.of(20L), Set.of(30L, 40L))));
+    }
+
+    @Test
+    void eventsThatAreOrWerePublicGoToEveryone() {
+        assertNull(registry.audience(EventChangedEvent.created(event(EventType.PUBLIC, 10L))));
+        // Made PRIVATE: everyone who saw it while it was PUBLIC has to drop it
+        assertNull(registry.audience(EventChangedEvent.updated(event(EventType.PRIVATE, 10L, 20L),
+                EventType.PUBLIC, Set.of(20L), Set.of())));
+        assertNull(registry.audience(EventChangedEvent.deleted(event(EventType.PRIVATE, 10L, 20L))));
+    }
+
+    // ========== HELPERS ==========
+
+    private Event event(EventType type, Long organizerId, Long... invitees) {
+        Event event = new Event("Stream test", "", LocalDate.now().plusDays(1), LocalTime.of(10, 0), LocalTime.of(11, 0),
+                "Test venue", type, user(organizerId));
+        event.setId(1L);
+        for (Long invitee : invitees) {
+            event.getInvitedUsers().add(user(invitee));
+        }
+        return event;
+    }
+
+    private User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
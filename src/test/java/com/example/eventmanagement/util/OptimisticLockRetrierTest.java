@@ -0,0 +1,144 @@
+package com.example.eventmanagement.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OptimisticLockRetrierTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticLockRetrier retrier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retrier = new OptimisticLockRetrier(meterRegistry, new ApplicationLogger());
+        ReflectionTestUtils.setField(retrier, "maxAttempts", 3);
+        ReflectionTestUtils.setField(retrier, "backoffMillis", 0L);
+    }
+
+    @AfterEach
+    void clearTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void writesWithoutIfMatchAreRetriedUntilTheyWin() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retrier.execute("test.write", true, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("com.example.Event", 7L);
+            }
+            return "saved";
+        });
+
+        assertEquals("saved", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, counter("optimistic.lock.retries"));
+        assertNull(meterRegistry.find("optimistic.lock.conflicts").counter());
+    }
+
+    @Test
+    void conflictsLeftAfterTheLastAttemptAreRethrown() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        OptimisticLockingFailureException conflict = assertThrows(OptimisticLockingFailureException.class,
+                () -> retrier.run("test.write", true, () -> {
+                    attempts.incrementAndGet();
+                    throw new ObjectOptimisticLockingFailureException("com.example.Event", 7L);
+                }));
+
+        assertEquals(3, attempts.get());
+        assertEquals("Event 7 was changed by another request - reload it and retry", conflict.getMessage());
+        assertEquals(2.0, counter("optimistic.lock.retries"));
+        assertEquals(1.0, counter("optimistic.lock.conflicts"));
+    }
+
+    @Test
+    void staleIfMatchIsNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        // The controller passes retryable = false when the client sent If-Match
+        OptimisticLockingFailureException conflict = assertThrows(OptimisticLockingFailureException.class,
+                () -> retrier.run("test.write", false, () -> {
+                    attempts.incrementAndGet();
+                    ResourceVersion.checkIfMatch("Event", 7L, 4L, 3L);
+                }));
+
+        assertEquals(1, attempts.get());
+        assertEquals("Event 7 has changed (current version 4, If-Match 3) - reload it and retry", conflict.getMessage());
+        assertNull(meterRegistry.find("optimistic.lock.retries").counter());
+    }
+
+    @Test
+    void conflictsInsideACallersTransactionAreNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> retrier.run("test.write", true, () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockException("stale");
+        }));
+
+        assertEquals(1, attempts.get());
+        assertNull(meterRegistry.find("optimistic.lock.retries").counter());
+    }
+
+    @Test
+    void conflictsWrappedByTheServiceAreStillRecognised() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        retrier.run("test.write", true, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new RuntimeException("Failed to update event", new OptimisticLockException("stale"));
+            }
+        });
+
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void otherFailuresPassThroughUntouched() {
+        AtomicInteger attempts = new AtomicInteger();
+        IllegalArgumentException failure = new IllegalArgumentException("Event title is required");
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> retrier.run("test.write", true, () -> {
+                    attempts.incrementAndGet();
+                    throw failure;
+                }));
+
+        assertSame(failure, thrown);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void ifMatchIsOptional() {
+        assertNull(ResourceVersion.parseIfMatch(null));
+        assertNull(ResourceVersion.parseIfMatch("*"));
+        assertEquals(3L, ResourceVersion.parseIfMatch("\"3\""));
+        assertThrows(IllegalArgumentException.class, () -> ResourceVersion.parseIfMatch("W/\"events-abc\""));
+
+        // No expected version: unconditional, whatever the current one
+        ResourceVersion.checkIfMatch("Event", 7L, 4L, null);
+        ResourceVersion.checkIfMatch("Event", 7L, 4L, 4L);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).tag("operation", "test.write").counter().count();
+    }
+}